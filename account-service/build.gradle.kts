@@ -52,5 +52,6 @@ dependencies {
     testImplementation("org.testcontainers:rabbitmq")
     testImplementation("io.rest-assured:rest-assured:${property("restAssuredVersion")}")
     testImplementation("net.datafaker:datafaker:${property("datafakerVersion")}")
+    testImplementation("com.github.gavlyukovskiy:datasource-proxy-spring-boot-starter:${property("datasourceProxyVersion")}")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
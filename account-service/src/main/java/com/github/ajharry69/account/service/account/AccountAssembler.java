@@ -3,17 +3,28 @@ package com.github.ajharry69.account.service.account;
 import com.github.ajharry69.account.service.account.models.dtos.AccountResponse;
 import com.github.ajharry69.account.service.card.CardController;
 import com.github.ajharry69.account.service.card.data.CardFilter;
+import com.github.ajharry69.hateoas.LinkTemplate;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 public class AccountAssembler implements RepresentationModelAssembler<AccountResponse, EntityModel<AccountResponse>> {
+    private static final LinkRelation CARDS = LinkRelation.of("cards");
+    private static final LinkTemplate SELF = LinkTemplate.of(
+            id -> linkTo(methodOn(AccountController.class).getAccount(id))
+    );
+    private static final LinkTemplate CARDS_LINK = LinkTemplate.of(
+            id -> linkTo(methodOn(CardController.class).getCards(id, CardFilter.builder().build(), null))
+    );
+
     @Override
     public EntityModel<AccountResponse> toModel(AccountResponse entity) {
         return EntityModel.of(entity)
-                .add(linkTo(methodOn(AccountController.class).getAccount(entity.id())).withSelfRel())
-                .add(linkTo(methodOn(CardController.class).getCards(entity.id(), CardFilter.builder().build(), null)).withRel("cards"));
+                .add(SELF.toLink(entity.id(), IanaLinkRelations.SELF))
+                .add(CARDS_LINK.toLink(entity.id(), CARDS));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package com.github.ajharry69.account.service.account;
+
+import com.github.ajharry69.SecuritySchemeName;
+import com.github.ajharry69.account.service.account.models.dtos.BatchGetAccountsRequest;
+import com.github.ajharry69.account.service.account.models.dtos.BatchGetAccountsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.mediatype.problem.Problem;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Custom-method style ({@code /accounts:batchGet}) endpoints, which cannot be mapped under
+ * {@link AccountController}'s {@code /api/v1/accounts} prefix without a separating slash.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Accounts", description = "Operations related to accounts")
+public class AccountBatchController {
+    private final AccountService service;
+
+    @PostMapping(value = "/accounts:batchGet", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Get accounts by ID in bulk",
+            description = "Looks up to " + BatchGetAccountsRequest.MAX_IDS + " accounts with one query. Found "
+                    + "accounts are keyed by ID; IDs without an account are listed in `notFound`."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Empty or oversized batch",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_account.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"account.read"})
+    public BatchGetAccountsResponse getAccounts(@RequestBody @Valid BatchGetAccountsRequest request) {
+        return service.getAccounts(request.ids());
+    }
+}
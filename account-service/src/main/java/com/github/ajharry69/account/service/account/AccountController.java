@@ -4,6 +4,13 @@ import com.github.ajharry69.SecuritySchemeName;
 import com.github.ajharry69.account.service.account.data.AccountFilter;
 import com.github.ajharry69.account.service.account.models.dtos.AccountRequest;
 import com.github.ajharry69.account.service.account.models.dtos.AccountResponse;
+import com.github.ajharry69.pagination.CountMode;
+import com.github.ajharry69.pagination.CountedPagedModels;
+import com.github.ajharry69.pagination.KeysetCursor;
+import com.github.ajharry69.pagination.KeysetModels;
+import com.github.ajharry69.pagination.LeanPage;
+import com.github.ajharry69.pagination.LeanPages;
+import com.github.ajharry69.pagination.Projections;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
@@ -27,6 +35,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -37,8 +46,12 @@ public class AccountController {
     private final AccountService service;
     private final PagedResourcesAssembler<AccountResponse> accountPageAssembler;
 
-    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE})
-    @Operation(summary = "Get accounts")
+    @GetMapping(params = "!" + KeysetCursor.PARAMETER, produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Get accounts",
+            description = "`count` selects how `page.totalElements` is obtained: `EXACT` (default), `CACHED` or `NONE`. " +
+                    "`fields` (e.g. `fields=iban,customerId`) limits each element to the listed fields and its `id`."
+    )
     @ApiResponses(
             {
                     @ApiResponse(
@@ -61,15 +74,104 @@ public class AccountController {
     @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"account.read"})
     public PagedModel<EntityModel<AccountResponse>> getAccounts(
             @ModelAttribute AccountFilter filter,
+            @RequestParam(name = CountMode.PARAMETER, defaultValue = "EXACT")
+            CountMode count,
+            @RequestParam(name = Projections.PARAMETER, required = false)
+            Set<String> fields,
             Pageable pageable
     ) {
-        Page<AccountResponse> accounts = service.getAccounts(pageable, filter);
-        return accountPageAssembler.toModel(
-                accounts,
-                new AccountAssembler()
+        Page<AccountResponse> accounts = service.getAccounts(pageable, filter, count, fields);
+        return CountedPagedModels.withCount(
+                accountPageAssembler.toModel(
+                        accounts,
+                        new AccountAssembler()
+                ),
+                count
         );
     }
 
+    @GetMapping(params = "!" + KeysetCursor.PARAMETER, produces = {LeanPages.MEDIA_TYPE_VALUE})
+    @Operation(
+            summary = "Get accounts without per-element links",
+            description = "Same page as `application/json`, with the accounts as a plain `content` array and only the " +
+                    "page's `links`."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval."
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_account.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"account.read"})
+    public LeanPage<AccountResponse> getAccountsLean(
+            @ModelAttribute AccountFilter filter,
+            @RequestParam(name = CountMode.PARAMETER, defaultValue = "EXACT")
+            CountMode count,
+            @RequestParam(name = Projections.PARAMETER, required = false)
+            Set<String> fields,
+            Pageable pageable
+    ) {
+        var accounts = service.getAccounts(pageable, filter, count, fields);
+        return LeanPages.of(accounts, accountPageAssembler, count);
+    }
+
+    @GetMapping(params = KeysetCursor.PARAMETER, produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Get accounts after a cursor",
+            description = "Newest first. Pass an empty `cursor` for the first page, then follow the `next` link."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval."
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid cursor",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_account.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"account.read"})
+    public CollectionModel<EntityModel<AccountResponse>> getAccountsAfter(
+            @ModelAttribute AccountFilter filter,
+            @RequestParam(KeysetCursor.PARAMETER) String cursor,
+            Pageable pageable
+    ) {
+        var accounts = service.getAccounts(KeysetCursor.scrollPosition(cursor), pageable.getPageSize(), filter);
+        return KeysetModels.toModel(accounts, new AccountAssembler());
+    }
+
     @PostMapping(produces = {MediaType.APPLICATION_JSON_VALUE})
     @Operation(summary = "Create account")
     @ApiResponses(
@@ -6,17 +6,29 @@ import com.github.ajharry69.account.service.account.data.AccountRepository;
 import com.github.ajharry69.account.service.account.data.AccountSpecification;
 import com.github.ajharry69.account.service.account.messaging.AccountDeletedEvent;
 import com.github.ajharry69.account.service.account.messaging.AccountMessagingService;
+import com.github.ajharry69.account.service.account.messaging.AccountsDeletedEvent;
 import com.github.ajharry69.account.service.account.models.Account;
 import com.github.ajharry69.account.service.account.models.AccountMapper;
 import com.github.ajharry69.account.service.account.models.dtos.AccountRequest;
 import com.github.ajharry69.account.service.account.models.dtos.AccountResponse;
+import com.github.ajharry69.account.service.account.models.dtos.BatchGetAccountsResponse;
+import com.github.ajharry69.lookup.IdLookup;
+import com.github.ajharry69.pagination.CountMode;
+import com.github.ajharry69.pagination.KeysetCursor;
+import com.github.ajharry69.pagination.PageCounter;
+import com.github.ajharry69.pagination.Projections;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -26,16 +38,63 @@ public class AccountService {
     private final AccountMapper accountMapper;
     private final AccountRepository repository;
     private final AccountMessagingService accountMessagingService;
+    private final PageCounter pageCounter;
 
     public Page<AccountResponse> getAccounts(Pageable pageable, AccountFilter filter) {
+        return getAccounts(pageable, filter, CountMode.EXACT);
+    }
+
+    public Page<AccountResponse> getAccounts(Pageable pageable, AccountFilter filter, CountMode countMode) {
         log.info("Getting accounts with filter: {}...", filter);
         var specification = new AccountSpecification(filter);
-        Page<AccountResponse> page = repository.findAll(specification, pageable)
+        Page<AccountResponse> page = pageCounter.findAll(repository, specification, filter, pageable, countMode)
                 .map(accountMapper::toResponse);
         log.info("Found {} accounts with filter: {}", page.getNumberOfElements(), filter);
         return page;
     }
 
+    /**
+     * Same as {@link #getAccounts(Pageable, AccountFilter, CountMode)}, but only reading the {@code fields} of each
+     * account (see {@link Projections}).
+     */
+    public Page<AccountResponse> getAccounts(
+            Pageable pageable,
+            AccountFilter filter,
+            CountMode countMode,
+            Collection<String> fields
+    ) {
+        var attributes = Projections.attributes(fields, AccountResponse.class);
+        if (attributes == null) {
+            return getAccounts(pageable, filter, countMode);
+        }
+
+        log.info("Getting {} of accounts with filter: {}...", attributes, filter);
+        var specification = new AccountSpecification(filter);
+        Page<AccountResponse> page = pageCounter
+                .findAll(repository, specification, attributes, filter, pageable, countMode)
+                .map(accountMapper::toProjectedResponse);
+        log.info("Found {} accounts with filter: {}", page.getNumberOfElements(), filter);
+        return page;
+    }
+
+    /**
+     * Seeks to the {@code size} newest accounts after {@code position} (see {@link KeysetCursor}) without
+     * computing a total count.
+     */
+    public Window<AccountResponse> getAccounts(ScrollPosition position, int size, AccountFilter filter) {
+        log.info("Getting accounts after {} with filter: {}...", position, filter);
+        var specification = new AccountSpecification(filter);
+        Window<Account> accounts = repository.findBy(
+                specification,
+                query -> query.sortBy(KeysetCursor.SORT)
+                        .limit(size)
+                        .scroll(position)
+        );
+        Window<AccountResponse> window = accounts.map(accountMapper::toResponse);
+        log.info("Found {} accounts with filter: {}", window.size(), filter);
+        return window;
+    }
+
     @Transactional
     public AccountResponse createAccount(AccountRequest request) {
         log.info("Creating account: {}", request);
@@ -56,14 +115,42 @@ public class AccountService {
         return response;
     }
 
+    /**
+     * Looks up every account of {@code accountIds} with one query. Duplicate IDs are looked up once.
+     */
+    public BatchGetAccountsResponse getAccounts(Collection<UUID> accountIds) {
+        log.info("Getting {} accounts by id...", accountIds.size());
+        var lookup = IdLookup.of(
+                accountIds,
+                repository::findAllByIdArray,
+                Account::getId,
+                accountMapper::toResponse
+        );
+        log.info("Found {} of {} accounts", lookup.found().size(), lookup.requested());
+        return BatchGetAccountsResponse.builder()
+                .accounts(lookup.found())
+                .notFound(lookup.notFound())
+                .build();
+    }
+
+    /**
+     * Updates the account with one statement; an account that does not exist is detected from the number of
+     * updated rows rather than looked up beforehand.
+     */
     @Transactional
     public AccountResponse updateAccount(UUID accountId, AccountRequest request) {
         log.info("Updating account with id: {} with request: {}", accountId, request);
-        checkExistsByIdOrThrow(accountId);
+        int updated = repository.updateById(
+                accountId,
+                request.iban(),
+                request.bicSwift(),
+                request.customerId(),
+                OffsetDateTime.now()
+        );
+        checkAffectedOrThrow(updated, accountId);
 
-        Account entity = accountMapper.toEntity(request);
-        entity.setId(accountId);
-        Account account = repository.save(entity);
+        Account account = accountMapper.toEntity(request);
+        account.setId(accountId);
         AccountResponse response = accountMapper.toResponse(account);
         log.info("Updated account: {}", response);
         return response;
@@ -72,15 +159,39 @@ public class AccountService {
     @Transactional
     public void deleteAccount(UUID accountId) {
         log.info("Deleting account with id: {}", accountId);
-        checkExistsByIdOrThrow(accountId);
+        int deleted = repository.deleteByIdReturningCount(accountId);
+        checkAffectedOrThrow(deleted, accountId);
 
-        repository.deleteById(accountId);
         accountMessagingService.sendAccountDeletedEvent(new AccountDeletedEvent(accountId));
         log.info("Deleted account with id: {}", accountId);
     }
 
-    private void checkExistsByIdOrThrow(UUID accountId) {
-        if (!repository.existsById(accountId)) {
+    /**
+     * Deletes every account of the customer with one statement and announces them in a single
+     * {@link AccountsDeletedEvent}.
+     * <p>
+     * Safe to call again for the same customer: a redelivered request finds no accounts left to delete and
+     * publishes nothing. The event is written to the outbox in the same transaction as the deletion, so the two
+     * either commit together or not at all.
+     *
+     * @return number of deleted accounts.
+     */
+    @Transactional
+    public int deleteAccountsByCustomerId(UUID customerId) {
+        log.info("Deleting accounts for customer with id: {}", customerId);
+        List<UUID> accountIds = repository.deleteByCustomerIdReturningId(customerId);
+        if (accountIds.isEmpty()) {
+            log.info("No accounts left to delete for customer with id: {}", customerId);
+            return 0;
+        }
+
+        accountMessagingService.sendAccountsDeletedEvent(new AccountsDeletedEvent(accountIds));
+        log.info("Deleted {} accounts for customer with id: {}", accountIds.size(), customerId);
+        return accountIds.size();
+    }
+
+    private void checkAffectedOrThrow(int affected, UUID accountId) {
+        if (affected == 0) {
             log.info("Account with id: {} not found", accountId);
             throw new AccountNotFoundException();
         }
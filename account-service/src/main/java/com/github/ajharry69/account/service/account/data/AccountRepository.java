@@ -1,6 +1,8 @@
 package com.github.ajharry69.account.service.account.data;
 
 import com.github.ajharry69.account.service.account.models.Account;
+import com.github.ajharry69.pagination.ProjectionSpecificationExecutor;
+import com.github.ajharry69.pagination.SliceSpecificationExecutor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -12,11 +14,59 @@ import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
-public interface AccountRepository extends JpaRepository<Account, UUID>, JpaSpecificationExecutor<Account> {
+public interface AccountRepository extends JpaRepository<Account, UUID>, JpaSpecificationExecutor<Account>,
+        SliceSpecificationExecutor<Account>, ProjectionSpecificationExecutor<Account> {
     @Transactional
     @Modifying
     @Query("update accounts c set c.dateCreated = :dateCreated where c.id = :id")
     void updateDateCreatedById(@Param("dateCreated") OffsetDateTime dateCreated, @Param("id") UUID id);
 
+    /**
+     * Updates the account in a single statement, without loading it first.
+     *
+     * @return number of updated accounts: {@code 0} if there is none with the ID.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update accounts a
+            set a.iban = :iban,
+                a.bicSwift = :bicSwift,
+                a.customerId = :customerId,
+                a.dateLastModified = :dateLastModified
+            where a.id = :id""")
+    int updateById(
+            @Param("id") UUID id,
+            @Param("iban") String iban,
+            @Param("bicSwift") String bicSwift,
+            @Param("customerId") UUID customerId,
+            @Param("dateLastModified") OffsetDateTime dateLastModified
+    );
+
+    /**
+     * Deletes the account in a single statement, without loading it first.
+     *
+     * @return number of deleted accounts: {@code 0} if there is none with the ID.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from accounts a where a.id = :id")
+    int deleteByIdReturningCount(@Param("id") UUID id);
+
     List<AccountID> findByCustomerId(UUID customerId);
+
+    /**
+     * One statement, and plan, however many IDs are requested.
+     */
+    @Query(value = "select * from accounts where id = any(:ids)", nativeQuery = true)
+    List<Account> findAllByIdArray(@Param("ids") UUID[] ids);
+
+    /**
+     * Deletes every account of the customer in a single statement.
+     *
+     * @return IDs of the deleted accounts.
+     */
+    @Transactional
+    @Query(value = "delete from accounts where customer_id = :customerId returning id", nativeQuery = true)
+    List<UUID> deleteByCustomerIdReturningId(@Param("customerId") UUID customerId);
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.github.ajharry69.account.service.account.data;
+
+import com.github.ajharry69.account.service.account.models.Account;
+import com.github.ajharry69.pagination.ProjectionSpecificationExecutor;
+import com.github.ajharry69.pagination.Projections;
+import com.github.ajharry69.pagination.SliceSpecificationExecutor;
+import com.github.ajharry69.pagination.SpecificationSlices;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class AccountRepositoryImpl implements SliceSpecificationExecutor<Account>, ProjectionSpecificationExecutor<Account> {
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<Account> findSlice(Specification<Account> specification, Pageable pageable) {
+        return SpecificationSlices.find(entityManager, Account.class, specification, pageable);
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findProjectedSlice(
+            Specification<Account> specification,
+            Collection<String> attributes,
+            Pageable pageable
+    ) {
+        return Projections.findSlice(entityManager, Account.class, specification, attributes, pageable);
+    }
+}
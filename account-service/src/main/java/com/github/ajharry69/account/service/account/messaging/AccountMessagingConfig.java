@@ -13,12 +13,19 @@ public class AccountMessagingConfig {
     public static final String EXCHANGE_NAME = "ACCOUNT";
     public static final String QUEUE_NAME_DELETE_ACCOUNT = "QUEUE_DELETE_ACCOUNT";
     public static final String ROUTING_KEY_DELETE_ACCOUNT = QUEUE_NAME_DELETE_ACCOUNT + "." + EXCHANGE_NAME;
+    public static final String QUEUE_NAME_DELETE_ACCOUNTS = "QUEUE_DELETE_ACCOUNTS";
+    public static final String ROUTING_KEY_DELETE_ACCOUNTS = QUEUE_NAME_DELETE_ACCOUNTS + "." + EXCHANGE_NAME;
 
     @Bean
     public Queue deleteAccountQueue() {
         return new Queue(QUEUE_NAME_DELETE_ACCOUNT, true);
     }
 
+    @Bean
+    public Queue deleteAccountsQueue() {
+        return new Queue(QUEUE_NAME_DELETE_ACCOUNTS, true);
+    }
+
     @Bean
     public DirectExchange accountExchange() {
         return new DirectExchange(EXCHANGE_NAME);
@@ -34,4 +41,15 @@ public class AccountMessagingConfig {
         return BindingBuilder.bind(queue).to(exchange)
                 .with(ROUTING_KEY_DELETE_ACCOUNT);
     }
+
+    @Bean
+    public Binding deleteAccountsBinding(
+            @Qualifier("deleteAccountsQueue")
+            Queue queue,
+            @Qualifier("accountExchange")
+            DirectExchange exchange
+    ) {
+        return BindingBuilder.bind(queue).to(exchange)
+                .with(ROUTING_KEY_DELETE_ACCOUNTS);
+    }
 }
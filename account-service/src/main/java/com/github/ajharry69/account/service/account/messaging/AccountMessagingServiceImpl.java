@@ -1,24 +1,36 @@
 package com.github.ajharry69.account.service.account.messaging;
 
+import com.github.ajharry69.outbox.Outbox;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * Writes events to the {@link Outbox} in the caller's transaction; they reach the broker once it commits.
+ */
 @Component
 @AllArgsConstructor
 @Slf4j
 public class AccountMessagingServiceImpl implements AccountMessagingService {
-    private final AmqpTemplate template;
+    private final Outbox outbox;
 
     @Override
     public void sendAccountDeletedEvent(AccountDeletedEvent event) {
-        log.info("Sending account deleted event: {}", event);
-        template.convertAndSend(
+        log.info("Queueing account deleted event: {}", event);
+        outbox.enqueue(
                 AccountMessagingConfig.EXCHANGE_NAME,
                 AccountMessagingConfig.ROUTING_KEY_DELETE_ACCOUNT,
                 event
         );
-        log.info("Account deleted event sent: {}", event);
+    }
+
+    @Override
+    public void sendAccountsDeletedEvent(AccountsDeletedEvent event) {
+        log.info("Queueing accounts deleted event: {}", event);
+        outbox.enqueue(
+                AccountMessagingConfig.EXCHANGE_NAME,
+                AccountMessagingConfig.ROUTING_KEY_DELETE_ACCOUNTS,
+                event
+        );
     }
 }
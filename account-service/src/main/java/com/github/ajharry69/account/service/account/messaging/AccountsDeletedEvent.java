@@ -0,0 +1,10 @@
+package com.github.ajharry69.account.service.account.messaging;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record AccountsDeletedEvent(List<UUID> accountIds) {
+}
@@ -7,6 +7,9 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.Map;
+import java.util.UUID;
+
 
 @Mapper(
         componentModel = MappingConstants.ComponentModel.SPRING,
@@ -17,4 +20,16 @@ public interface AccountMapper {
     Account toEntity(AccountRequest request);
 
     AccountResponse toResponse(Account account);
+
+    /**
+     * Maps the attributes selected by a projection; the others are left {@code null}.
+     */
+    default AccountResponse toProjectedResponse(Map<String, Object> values) {
+        return AccountResponse.builder()
+                .id((UUID) values.get("id"))
+                .iban((String) values.get("iban"))
+                .bicSwift((String) values.get("bicSwift"))
+                .customerId((UUID) values.get("customerId"))
+                .build();
+    }
 }
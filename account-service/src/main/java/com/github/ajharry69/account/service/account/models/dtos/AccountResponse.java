@@ -1,10 +1,13 @@
 package com.github.ajharry69.account.service.account.models.dtos;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.github.ajharry69.pagination.Projections;
 import lombok.Builder;
 
 import java.util.UUID;
 
 @Builder
+@JsonFilter(Projections.FILTER)
 public record AccountResponse(
         UUID id,
         String iban,
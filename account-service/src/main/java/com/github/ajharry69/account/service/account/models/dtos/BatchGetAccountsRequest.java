@@ -0,0 +1,17 @@
+package com.github.ajharry69.account.service.account.models.dtos;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record BatchGetAccountsRequest(
+        @NotEmpty
+        @Size(max = BatchGetAccountsRequest.MAX_IDS)
+        List<@NotNull UUID> ids) {
+    public static final int MAX_IDS = 1000;
+}
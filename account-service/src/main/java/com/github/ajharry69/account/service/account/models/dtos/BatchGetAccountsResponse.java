@@ -0,0 +1,17 @@
+package com.github.ajharry69.account.service.account.models.dtos;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * @param accounts found accounts keyed by ID, in the order they were requested.
+ * @param notFound requested IDs without an account.
+ */
+@Builder
+public record BatchGetAccountsResponse(
+        Map<UUID, AccountResponse> accounts,
+        List<UUID> notFound) {
+}
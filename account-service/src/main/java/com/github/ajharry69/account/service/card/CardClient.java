@@ -15,7 +15,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 @FeignClient(
         name = "card-service",
-        url = "${application.config.gateway.url:http://localhost:8080}/api/v1/cards",
+        url = "${application.config.clients.card-service.url:${application.config.gateway.url:http://localhost:8080}}",
+        path = "/api/v1/cards",
         configuration = {DTBFeignClientConfig.class}
 )
 public interface CardClient {
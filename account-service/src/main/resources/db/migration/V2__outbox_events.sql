@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS outbox_events
+(
+    id           UUID PRIMARY KEY,
+    exchange     VARCHAR(255)             NOT NULL,
+    routing_key  VARCHAR(255)             NOT NULL,
+    type         VARCHAR(255)             NOT NULL,
+    payload      TEXT                     NOT NULL,
+    date_created TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_date_created ON outbox_events (date_created);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_accounts_date_created_id ON accounts (date_created DESC, id DESC);
@@ -0,0 +1,51 @@
+package com.github.ajharry69.account.service.account;
+
+import com.github.ajharry69.account.service.account.models.dtos.AccountResponse;
+import com.github.ajharry69.account.service.card.CardController;
+import com.github.ajharry69.account.service.card.data.CardFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Links;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class AccountAssemblerTest {
+    private final AccountAssembler assembler = new AccountAssembler();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldBuildSameLinksAsLinkTo() {
+        // Given
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/v1/accounts"))
+        );
+        var account = AccountResponse.builder()
+                .id(UUID.randomUUID())
+                .iban("GB82WEST12345698765432")
+                .bicSwift("DEUTDEFF")
+                .customerId(UUID.randomUUID())
+                .build();
+
+        // When
+        var model = assembler.toModel(account);
+
+        // Then
+        var expected = Links.of(
+                linkTo(methodOn(AccountController.class).getAccount(account.id())).withSelfRel(),
+                linkTo(methodOn(CardController.class).getCards(account.id(), CardFilter.builder().build(), null))
+                        .withRel("cards")
+        );
+        assertThat(model.getLinks()).hasToString(expected.toString());
+    }
+}
@@ -2,15 +2,19 @@ package com.github.ajharry69.account.service.account;
 
 import com.github.ajharry69.account.IntegrationTest;
 import com.github.ajharry69.account.TestcontainersConfiguration;
+import com.github.ajharry69.account.exceptions.AccountNotFoundException;
 import com.github.ajharry69.account.service.account.data.AccountFilter;
 import com.github.ajharry69.account.service.account.data.AccountRepository;
 import com.github.ajharry69.account.service.account.models.Account;
 import com.github.ajharry69.account.service.account.models.dtos.AccountRequest;
+import com.github.ajharry69.account.service.account.models.dtos.BatchGetAccountsRequest;
+import com.github.ajharry69.pagination.LeanPages;
 import dasniko.testcontainers.keycloak.KeycloakContainer;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import net.datafaker.Faker;
+import net.ttddyy.dsproxy.QueryCountHolder;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +44,9 @@ import java.util.UUID;
 import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -56,6 +63,8 @@ class AccountControllerTest extends IntegrationTest {
             .withRealmImportFile("/realm.json");
     @Autowired
     private AccountRepository repository;
+    @Autowired
+    private AccountService service;
     private Account account;
 
     @DynamicPropertySource
@@ -515,5 +524,160 @@ class AccountControllerTest extends IntegrationTest {
                     .statusCode(HttpStatus.OK.value())
                     .body("page.totalElements", equalTo(expectedTotalElements));
         }
+
+        @Test
+        void shouldReturnPlainArrayWithPageLinks_WhenAcceptingLeanMediaType() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .accept(LeanPages.MEDIA_TYPE_VALUE)
+                    .when()
+                    .queryParam("size", 1)
+                    .get("/api/v1/accounts");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .contentType(startsWith(LeanPages.MEDIA_TYPE_VALUE))
+                    .body("_embedded", nullValue())
+                    .body("content", hasSize(1))
+                    .body("content[0].id", notNullValue())
+                    .body("content[0]._links", nullValue())
+                    .body("page.totalElements", equalTo(2))
+                    .body("links.self", containsString("/api/v1/accounts"))
+                    .body("links.next", containsString("page=1"));
+        }
+
+        @Test
+        void shouldReturnRequestedFieldsOnly_WhenFieldsAreGiven() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .queryParam("fields", "iban,customerId")
+                    .get("/api/v1/accounts");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("_embedded.accountResponseList", hasSize(2))
+                    .body("_embedded.accountResponseList.id", everyItem(notNullValue()))
+                    .body("_embedded.accountResponseList.iban", everyItem(notNullValue()))
+                    .body("_embedded.accountResponseList.customerId", everyItem(notNullValue()))
+                    .body("_embedded.accountResponseList[0]", not(hasKey("bicSwift")))
+                    .body("_embedded.accountResponseList[0]._links.self.href", containsString("/api/v1/accounts/"))
+                    .body("page.totalElements", equalTo(2));
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "POST - /api/v1/accounts:batchGet")
+    class GetAccountsByIds {
+        @Test
+        void shouldReturnAccountsKeyedById() {
+            var missingId = UUID.randomUUID();
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .contentType(ContentType.JSON)
+                    .body(BatchGetAccountsRequest.builder().ids(List.of(account.getId(), missingId)).build())
+                    .post("/api/v1/accounts:batchGet");
+
+            response.prettyPrint();
+
+            var path = "accounts.'" + account.getId() + "'";
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("accounts.size()", equalTo(1))
+                    .body(path + ".id", equalTo(account.getId().toString()))
+                    .body(path + ".iban", equalTo(account.getIban()))
+                    .body("notFound", contains(missingId.toString()));
+        }
+
+        @Test
+        void shouldReturnBadRequestForEmptyBatch() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .contentType(ContentType.JSON)
+                    .body(BatchGetAccountsRequest.builder().ids(List.of()).build())
+                    .post("/api/v1/accounts:batchGet");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "Statement count")
+    class StatementCount {
+        @BeforeEach
+        public void setUp() {
+            QueryCountHolder.clear();
+        }
+
+        @Test
+        void shouldUpdateWithOneStatement() {
+            service.updateAccount(
+                    account.getId(),
+                    AccountRequest.builder()
+                            .iban(iban())
+                            .bicSwift(bicSwift())
+                            .customerId(account.getCustomerId())
+                            .build()
+            );
+
+            var count = QueryCountHolder.getGrandTotal();
+            assertAll(
+                    () -> assertThat(count.getTotal())
+                            .isEqualTo(1),
+                    () -> assertThat(count.getUpdate())
+                            .isEqualTo(1)
+            );
+        }
+
+        @Test
+        void shouldDetectMissingAccountOnUpdateWithOneStatement() {
+            assertThatThrownBy(() -> service.updateAccount(
+                    UUID.randomUUID(),
+                    AccountRequest.builder()
+                            .iban(iban())
+                            .bicSwift(bicSwift())
+                            .customerId(UUID.randomUUID())
+                            .build()
+            )).isInstanceOf(AccountNotFoundException.class);
+
+            assertThat(QueryCountHolder.getGrandTotal().getTotal())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        void shouldDeleteWithOneStatement() {
+            service.deleteAccount(account.getId());
+
+            // The only other statement is the outbox insert of the deletion event.
+            var count = QueryCountHolder.getGrandTotal();
+            assertAll(
+                    () -> assertThat(count.getSelect())
+                            .isZero(),
+                    () -> assertThat(count.getDelete())
+                            .isEqualTo(1),
+                    () -> assertThat(repository.existsById(account.getId()))
+                            .isFalse()
+            );
+        }
+
+        @Test
+        void shouldDetectMissingAccountOnDeleteWithOneStatement() {
+            assertThatThrownBy(() -> service.deleteAccount(UUID.randomUUID()))
+                    .isInstanceOf(AccountNotFoundException.class);
+
+            assertThat(QueryCountHolder.getGrandTotal().getTotal())
+                    .isEqualTo(1);
+        }
     }
-}
\ No newline at end of file
+}
@@ -6,10 +6,12 @@ import com.github.ajharry69.account.service.account.data.AccountRepository;
 import com.github.ajharry69.account.service.account.data.AccountSpecification;
 import com.github.ajharry69.account.service.account.messaging.AccountDeletedEvent;
 import com.github.ajharry69.account.service.account.messaging.AccountMessagingService;
+import com.github.ajharry69.account.service.account.messaging.AccountsDeletedEvent;
 import com.github.ajharry69.account.service.account.models.Account;
 import com.github.ajharry69.account.service.account.models.AccountMapper;
 import com.github.ajharry69.account.service.account.models.dtos.AccountRequest;
 import com.github.ajharry69.account.service.account.models.dtos.AccountResponse;
+import com.github.ajharry69.pagination.PageCounter;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +21,7 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -29,18 +32,21 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 class AccountServiceTest {
     private final AccountMapper accountMapper = Mappers.getMapper(AccountMapper.class);
     private final AccountRepository repository = mock(AccountRepository.class);
     private final AccountMessagingService accountMessagingService = mock(AccountMessagingService.class);
+    private final PageCounter pageCounter = new PageCounter(Duration.ofMinutes(1), 100);
 
     private AccountService service;
 
     @BeforeEach
     public void setUp() {
-        service = new AccountService(accountMapper, repository, accountMessagingService);
+        service = new AccountService(accountMapper, repository, accountMessagingService, pageCounter);
     }
 
     @Nested
@@ -114,22 +120,22 @@ class AccountServiceTest {
         @Test
         void shouldThrowAccountNotFoundException_IfAccountIsNotAvailable() {
             // Given
-            when(repository.existsById(any()))
-                    .thenReturn(false);
+            when(repository.deleteByIdReturningCount(any()))
+                    .thenReturn(0);
 
             // When
             assertAll(
-                    () -> verify(repository, never()).save(any()),
                     () -> assertThatThrownBy(() -> service.deleteAccount(UUID.randomUUID()))
-                            .isInstanceOf(AccountNotFoundException.class)
+                            .isInstanceOf(AccountNotFoundException.class),
+                    () -> verify(accountMessagingService, never()).sendAccountDeletedEvent(any())
             );
         }
 
         @Test
         void shouldDelete_IfAccountIsAvailable() {
             // Given
-            when(repository.existsById(any()))
-                    .thenReturn(true);
+            when(repository.deleteByIdReturningCount(any()))
+                    .thenReturn(1);
 
             // When
             UUID accountId = UUID.randomUUID();
@@ -138,7 +144,8 @@ class AccountServiceTest {
             // Then
             var argumentCaptor = ArgumentCaptor.forClass(UUID.class);
             verify(repository, times(1))
-                    .deleteById(argumentCaptor.capture());
+                    .deleteByIdReturningCount(argumentCaptor.capture());
+            verify(repository, never()).existsById(any());
 
             var id = argumentCaptor.getValue();
             assertThat(id)
@@ -153,38 +160,81 @@ class AccountServiceTest {
         }
     }
 
+    @Nested
+    class DeleteAccountsByCustomerId {
+        @Test
+        void shouldNotPublish_IfCustomerHasNoAccountsLeft() {
+            // Given
+            when(repository.deleteByCustomerIdReturningId(any()))
+                    .thenReturn(Collections.emptyList());
+
+            // When
+            var actual = service.deleteAccountsByCustomerId(UUID.randomUUID());
+
+            // Then
+            assertAll(
+                    () -> assertThat(actual)
+                            .isZero(),
+                    () -> verifyNoInteractions(accountMessagingService)
+            );
+        }
+
+        @Test
+        void shouldPublishOneEvent_IfCustomerHasAccounts() {
+            // Given
+            var accountIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+            when(repository.deleteByCustomerIdReturningId(any()))
+                    .thenReturn(accountIds);
+
+            // When
+            var actual = service.deleteAccountsByCustomerId(UUID.randomUUID());
+
+            // Then
+            var argumentCaptor = ArgumentCaptor.forClass(AccountsDeletedEvent.class);
+            verify(accountMessagingService, times(1))
+                    .sendAccountsDeletedEvent(argumentCaptor.capture());
+            assertAll(
+                    () -> assertThat(actual)
+                            .isEqualTo(2),
+                    () -> verify(repository, never()).deleteById(any()),
+                    () -> verify(accountMessagingService, never()).sendAccountDeletedEvent(any()),
+                    () -> assertThat(argumentCaptor.getValue().accountIds())
+                            .containsExactlyElementsOf(accountIds)
+            );
+        }
+    }
+
     @Nested
     class UpdateAccount {
         @Test
         void shouldThrowAccountNotFoundException_IfAccountIsNotAvailable() {
             // Given
-            when(repository.existsById(any()))
-                    .thenReturn(false);
+            when(repository.updateById(any(), any(), any(), any(), any()))
+                    .thenReturn(0);
 
             // When
             assertAll(
-                    () -> verify(repository, never()).save(any()),
                     () -> assertThatThrownBy(() -> {
                         AccountRequest account = AccountRequest.builder()
                                 .iban("First")
                                 .bicSwift("Last")
                                 .build();
                         service.updateAccount(UUID.randomUUID(), account);
-                    }).isInstanceOf(AccountNotFoundException.class)
+                    }).isInstanceOf(AccountNotFoundException.class),
+                    () -> verify(repository, never()).save(any())
             );
         }
 
         @Test
         void shouldReturnAccount_WhenAccountsIsAvailable() {
             // Given
-            when(repository.existsById(any()))
-                    .thenReturn(true);
-            when(repository.save(any()))
-                    .thenReturn(Account.builder().id(UUID.randomUUID()).build());
+            when(repository.updateById(any(), any(), any(), any(), any()))
+                    .thenReturn(1);
 
             // When
+            UUID accountId = UUID.randomUUID();
             var actual = service.updateAccount(
-                    UUID.randomUUID(),
+                    accountId,
                     AccountRequest.builder()
                             .iban("First")
                             .bicSwift("Last")
@@ -193,20 +243,15 @@ class AccountServiceTest {
 
             // Then
             assertAll(
-                    () -> {
-                        var argumentCaptor = ArgumentCaptor.forClass(Account.class);
-                        verify(repository, times(1)).save(argumentCaptor.capture());
-
-                        var entity = argumentCaptor.getValue();
-                        assertThat(entity.getId())
-                                .isNotNull();
-                        assertThat(entity.getIban())
-                                .isEqualTo("First");
-                        assertThat(entity.getBicSwift())
-                                .isEqualTo("Last");
-                    },
+                    () -> verify(repository, times(1))
+                            .updateById(eq(accountId), eq("First"), eq("Last"), isNull(), any()),
+                    () -> verify(repository, never()).save(any()),
                     () -> assertThat(actual.id())
-                            .isNotNull()
+                            .isEqualTo(accountId),
+                    () -> assertThat(actual.iban())
+                            .isEqualTo("First"),
+                    () -> assertThat(actual.bicSwift())
+                            .isEqualTo("Last")
             );
         }
     }
@@ -244,4 +289,38 @@ class AccountServiceTest {
             );
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class GetAccountsByIds {
+        @Test
+        void shouldKeyFoundAccountsById_AndReportMissingIds() {
+            // Given
+            var account = Account.builder()
+                    .id(UUID.randomUUID())
+                    .iban("GB82WEST12345698765432")
+                    .bicSwift("DEUTDEFF")
+                    .customerId(UUID.randomUUID())
+                    .build();
+            var missingId = UUID.randomUUID();
+            when(repository.findAllByIdArray(any()))
+                    .thenReturn(List.of(account));
+
+            // When
+            var actual = service.getAccounts(List.of(account.getId(), missingId, account.getId()));
+
+            // Then
+            var idsCaptor = ArgumentCaptor.forClass(UUID[].class);
+            verify(repository, times(1)).findAllByIdArray(idsCaptor.capture());
+            assertAll(
+                    () -> assertThat(idsCaptor.getValue())
+                            .containsExactly(account.getId(), missingId),
+                    () -> assertThat(actual.accounts())
+                            .containsOnlyKeys(account.getId()),
+                    () -> assertThat(actual.accounts().get(account.getId()).iban())
+                            .isEqualTo(account.getIban()),
+                    () -> assertThat(actual.notFound())
+                            .containsExactly(missingId)
+            );
+        }
+    }
+}
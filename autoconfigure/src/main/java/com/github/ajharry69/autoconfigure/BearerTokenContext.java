@@ -0,0 +1,47 @@
+package com.github.ajharry69.autoconfigure;
+
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Holds the {@code Authorization} header value of the inbound request being served, captured once per request by
+ * {@link BearerTokenContextFilter}, so that outbound calls can relay it without consulting the security context or
+ * the servlet request.
+ * <p>
+ * The value is registered with Micrometer's context-propagation {@code ContextRegistry} (see
+ * {@link BearerTokenThreadLocalAccessor}), so it follows work handed to Spring's task executors, {@code @Async}
+ * methods and virtual threads started through them. Work submitted to an executor that is not context-aware can be
+ * wrapped with {@link #wrap(Runnable)} or {@link #wrap(Callable)}.
+ */
+public final class BearerTokenContext {
+    static final ThreadLocal<String> AUTHORIZATION = new ThreadLocal<>();
+    private static final ContextSnapshotFactory SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private BearerTokenContext() {
+    }
+
+    /**
+     * @return the inbound {@code Authorization} header value (e.g. {@code Bearer eyJ...}), or {@code null} when the
+     * current thread is not serving an authenticated request.
+     */
+    @Nullable
+    public static String authorization() {
+        return AUTHORIZATION.get();
+    }
+
+    /**
+     * @return {@code task} bound to the context (including the bearer token) of the calling thread.
+     */
+    public static Runnable wrap(Runnable task) {
+        return SNAPSHOTS.captureAll().wrap(task);
+    }
+
+    /**
+     * @return {@code task} bound to the context (including the bearer token) of the calling thread.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        return SNAPSHOTS.captureAll().wrap(task);
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.ajharry69.autoconfigure;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Captures the inbound bearer token into {@link BearerTokenContext} for the duration of the request.
+ */
+class BearerTokenContextFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        var authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var previous = BearerTokenContext.AUTHORIZATION.get();
+        BearerTokenContext.AUTHORIZATION.set(authorization);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (previous == null) {
+                BearerTokenContext.AUTHORIZATION.remove();
+            } else {
+                BearerTokenContext.AUTHORIZATION.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.ajharry69.autoconfigure;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Exposes {@link BearerTokenContext} to Micrometer's context-propagation library. Registered through
+ * {@code META-INF/services/io.micrometer.context.ThreadLocalAccessor}.
+ */
+public class BearerTokenThreadLocalAccessor implements ThreadLocalAccessor<String> {
+    public static final String KEY = "dtb.bearer-token";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public String getValue() {
+        return BearerTokenContext.AUTHORIZATION.get();
+    }
+
+    @Override
+    public void setValue(String value) {
+        BearerTokenContext.AUTHORIZATION.set(value);
+    }
+
+    @Override
+    public void setValue() {
+        BearerTokenContext.AUTHORIZATION.remove();
+    }
+}
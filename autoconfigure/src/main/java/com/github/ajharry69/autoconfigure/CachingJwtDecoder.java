@@ -0,0 +1,85 @@
+package com.github.ajharry69.autoconfigure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * {@link JwtDecoder} that remembers successfully verified tokens until they expire, so a token presented many times
+ * within its lifetime has its signature verified only once.
+ * <p>
+ * Entries are keyed by the complete (signed) token, so a cache hit is only possible for the exact token that was
+ * verified. Tokens without an {@code exp} claim are never cached.
+ */
+class CachingJwtDecoder implements JwtDecoder {
+    static final String CACHE_METRIC_NAME = "jwt.decoder.cache";
+    static final String VERIFICATION_METRIC_NAME = "jwt.decoder.verification";
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer verifications;
+    private final Clock clock;
+
+    CachingJwtDecoder(JwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, meterRegistry, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<String, Jwt>creating((_, jwt) -> timeToLive(jwt)))
+                .build();
+        this.hits = Counter.builder(CACHE_METRIC_NAME)
+                .description("Bearer tokens served from the verified-token cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(CACHE_METRIC_NAME)
+                .description("Bearer tokens served from the verified-token cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.verifications = Timer.builder(VERIFICATION_METRIC_NAME)
+                .description("Time spent verifying bearer tokens that were not cached")
+                .register(meterRegistry);
+    }
+
+    private Duration timeToLive(Jwt jwt) {
+        var timeToLive = Duration.between(clock.instant(), jwt.getExpiresAt());
+        return timeToLive.isNegative() ? Duration.ZERO : timeToLive;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        var cached = cache.getIfPresent(token);
+        if (cached != null && cached.getExpiresAt().isAfter(clock.instant())) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        var sample = Timer.start();
+        Jwt jwt;
+        try {
+            jwt = delegate.decode(token);
+        } finally {
+            sample.stop(verifications);
+        }
+
+        if (jwt.getExpiresAt() != null) {
+            cache.put(token, jwt);
+        }
+        return jwt;
+    }
+}
@@ -4,6 +4,9 @@ import com.github.ajharry69.SecuritySchemeName;
 import com.github.ajharry69.exceptions.DTBAccessDeniedException;
 import com.github.ajharry69.exceptions.DTBAuthenticationFailedException;
 import com.github.ajharry69.exceptions.DTBException;
+import com.github.ajharry69.pagination.PageCounter;
+import com.github.ajharry69.pagination.ProjectionResponseBodyAdvice;
+import com.github.ajharry69.pagination.Projections;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
@@ -13,10 +16,14 @@ import io.swagger.v3.oas.models.servers.Server;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -24,6 +31,7 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -41,6 +49,44 @@ class DTBAutoConfiguration {
         return () -> Optional.of(OffsetDateTime.now());
     }
 
+    @Bean
+    public OncePerRequestFilter bearerTokenContextFilter() {
+        return new BearerTokenContextFilter();
+    }
+
+    /**
+     * Applied by Boot to its task executors (including the virtual-thread one), so that {@code @Async} work and
+     * tasks submitted to them see the submitting thread's {@link BearerTokenContext} and tracing context.
+     */
+    @Bean
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    @Bean
+    public PageCounter pageCounter(DTBankProperties properties) {
+        var pagination = properties.pagination();
+        var countCache = pagination != null && pagination.countCache() != null
+                ? pagination.countCache().orElse(DTBankProperties.CountCache.DEFAULTS)
+                : DTBankProperties.CountCache.DEFAULTS;
+        return new PageCounter(countCache.timeToLive(), countCache.maximumSize());
+    }
+
+    /**
+     * Response records that support projection name the {@link Projections#FILTER} filter, which writes every field
+     * unless {@link ProjectionResponseBodyAdvice} narrows it for a request.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer projectionObjectMapperCustomizer() {
+        return builder -> builder.filters(Projections.unprojected());
+    }
+
+    @Bean
+    public ProjectionResponseBodyAdvice projectionResponseBodyAdvice() {
+        return new ProjectionResponseBodyAdvice();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
@@ -1,58 +1,156 @@
 package com.github.ajharry69.autoconfigure;
 
+import feign.Capability;
+import feign.Client;
+import feign.Request;
 import feign.RequestInterceptor;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.cloud.openfeign.loadbalancer.LoadBalancerFeignRequestTransformer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Per-client configuration for the services' Feign clients. Clients whose {@code url} resolves to an empty string
+ * (e.g. {@code application.config.clients.card-service.url: ""}) are load-balanced across the instances registered
+ * in Eureka under the client's {@code name}, so internal traffic skips the gateway's rate limiter, circuit breaker
+ * and retries; the rest go through the URL they are given (typically the API gateway). Either way the caller's
+ * bearer token is relayed.
+ * <p>
+ * Every client gets its own pooled, keep-alive Apache HttpClient 5 sized by {@code application.config.feign}, so a
+ * slow target cannot exhaust the connections of another. Pool usage is published as
+ * {@code httpcomponents.httpclient.pool.*} metrics tagged with the client's name.
+ */
 @Configuration
 public class DTBFeignClientConfig {
     private static final Logger log = LoggerFactory.getLogger(DTBFeignClientConfig.class);
 
+    private static DTBankProperties.HttpClient httpClientProperties(DTBankProperties properties, String clientName) {
+        return properties.feign() != null
+                ? properties.feign().httpClient(clientName)
+                : DTBankProperties.HttpClient.DEFAULTS;
+    }
+
+    @Bean
+    PoolingHttpClientConnectionManager feignConnectionManager(
+            DTBankProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${spring.cloud.openfeign.client.name}") String clientName
+    ) {
+        var settings = httpClientProperties(properties, clientName);
+        var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.maxConnections())
+                .setMaxConnPerRoute(settings.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(
+                        ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.ofMilliseconds(settings.connectTimeout().toMillis()))
+                                .setSocketTimeout(Timeout.ofMilliseconds(settings.readTimeout().toMillis()))
+                                .setTimeToLive(TimeValue.ofMilliseconds(settings.connectionTimeToLive().toMillis()))
+                                .build()
+                )
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, clientName)
+                .bindTo(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        return connectionManager;
+    }
+
+    @Bean
+    CloseableHttpClient feignHttpClient(
+            PoolingHttpClientConnectionManager feignConnectionManager,
+            DTBankProperties properties,
+            @Value("${spring.cloud.openfeign.client.name}") String clientName
+    ) {
+        var settings = httpClientProperties(properties, clientName);
+        var builder = HttpClients.custom()
+                .setConnectionManager(feignConnectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(settings.idleTimeout().toMillis()))
+                .disableCookieManagement();
+        if (!settings.compression()) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
+
+    @Bean
+    Request.Options feignRequestOptions(
+            DTBankProperties properties,
+            @Value("${spring.cloud.openfeign.client.name}") String clientName
+    ) {
+        var settings = httpClientProperties(properties, clientName);
+        return new Request.Options(
+                settings.connectTimeout().toMillis(),
+                TimeUnit.MILLISECONDS,
+                settings.readTimeout().toMillis(),
+                TimeUnit.MILLISECONDS,
+                true
+        );
+    }
+
+    /**
+     * Always wrapped for load balancing: Spring Cloud OpenFeign unwraps the delegate itself for clients that are
+     * given a {@code url}.
+     */
+    @Bean
+    Client feignClient(
+            CloseableHttpClient feignHttpClient,
+            ObjectProvider<LoadBalancerClient> loadBalancerClient,
+            ObjectProvider<LoadBalancerClientFactory> loadBalancerClientFactory,
+            ObjectProvider<LoadBalancerFeignRequestTransformer> transformers
+    ) {
+        var client = new ApacheHttp5Client(feignHttpClient);
+        var balancer = loadBalancerClient.getIfAvailable();
+        var balancerFactory = loadBalancerClientFactory.getIfAvailable();
+        if (balancer == null || balancerFactory == null) {
+            return client;
+        }
+        return new FeignBlockingLoadBalancerClient(client, balancer, balancerFactory, transformers.orderedStream().toList());
+    }
+
+    @Bean
+    Capability routeMetricsCapability(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new FeignRouteMetricsCapability(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Relays the caller's bearer token: the one captured for the inbound request, or failing that the token of a
+     * JWT authentication set up programmatically (e.g. by a message listener).
+     */
     @Bean
     RequestInterceptor requestInterceptor() {
         return requestTemplate -> {
-            final var securityContext = SecurityContextHolder.getContext();
-            if (securityContext == null) {
-                log.warn("Security context is null. Skipping further request interception...");
-                return;
+            var authorization = BearerTokenContext.authorization();
+            if (authorization == null
+                    && SecurityContextHolder.getContext().getAuthentication() instanceof JwtAuthenticationToken token) {
+                authorization = "Bearer " + token.getToken().getTokenValue();
             }
 
-            final var authentication = securityContext.getAuthentication();
-            String authorizationHeaderValue;
-            if (authentication != null) {
-                log.info("Using authentication credentials from the security context...");
-
-                var credentials = authentication.getCredentials();
-                if (authentication.getCredentials() instanceof Jwt token) {
-                    credentials = token.getTokenValue();
-                }
-                authorizationHeaderValue = "Bearer " + credentials;
-            } else {
-                log.info("Falling back to authentication credentials from the request attributes...");
-                var requestAttributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-                if (requestAttributes == null) {
-                    log.warn("Request attributes are null. Skipping further request interception...");
-                    return;
-                }
-
-                var request = requestAttributes.getRequest();
-                authorizationHeaderValue = request.getHeader(HttpHeaders.AUTHORIZATION);
-                if (authorizationHeaderValue == null) {
-                    log.warn("Authorization header is null. Skipping further request interception...");
-                    return;
-                }
+            if (authorization != null) {
+                requestTemplate.header(HttpHeaders.AUTHORIZATION, authorization);
+            } else if (log.isDebugEnabled()) {
+                log.debug("No bearer token to relay to {}", requestTemplate.path());
             }
-
-            log.info("Setting Authorization header with value.");
-            requestTemplate.header(HttpHeaders.AUTHORIZATION, authorizationHeaderValue);
         };
     }
 }
@@ -0,0 +1,86 @@
+package com.github.ajharry69.autoconfigure;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.List;
+
+/**
+ * Registers Postgres functions that Hibernate cannot render on its own.
+ */
+public class DTBFunctionContributor implements FunctionContributor {
+    /**
+     * {@code fts_match(tsvector, tsquery)}, rendered as {@code tsvector @@ tsquery}. Unlike a call to
+     * {@code ts_match_vq}, the operator form can be answered from a GIN index on the vector.
+     */
+    public static final String FULL_TEXT_MATCH = "fts_match";
+    /**
+     * {@code searchable(root.id)}, rendered as the {@code searchable} column of the row that {@code root.id} is read
+     * from. The generated tsvector is not mapped on the entities (so it is neither selected nor kept in the
+     * persistence context on ordinary reads); this is how criteria queries still match and rank on it.
+     */
+    public static final String SEARCHABLE = "searchable";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        var basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().registerPattern(
+                FULL_TEXT_MATCH,
+                "(?1 @@ ?2)",
+                basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN)
+        );
+        functionContributions.getFunctionRegistry().register(
+                SEARCHABLE,
+                new SiblingColumnFunction(SEARCHABLE, basicTypeRegistry.resolve(StandardBasicTypes.OBJECT_TYPE))
+        );
+    }
+
+    /**
+     * Renders the column named like the function, qualified with the table alias of its (column) argument.
+     */
+    private static class SiblingColumnFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+        private final String column;
+
+        SiblingColumnFunction(String column, BasicType<?> type) {
+            super(
+                    column,
+                    StandardArgumentsValidators.exactly(1),
+                    StandardFunctionReturnTypeResolvers.invariant(type),
+                    null
+            );
+            this.column = column;
+        }
+
+        @Override
+        public void render(
+                SqlAppender sqlAppender,
+                List<? extends SqlAstNode> sqlAstArguments,
+                ReturnableType<?> returnType,
+                SqlAstTranslator<?> walker
+        ) {
+            var columnReference = sqlAstArguments.getFirst() instanceof Expression expression
+                    ? expression.getColumnReference()
+                    : null;
+            if (columnReference == null) {
+                throw new IllegalArgumentException(getName() + "() expects a column of the table to read from");
+            }
+
+            var qualifier = columnReference.getQualifier();
+            if (qualifier != null) {
+                sqlAppender.appendSql(qualifier);
+                sqlAppender.appendSql('.');
+            }
+            sqlAppender.appendSql(column);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.ajharry69.autoconfigure;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.SupplierJwtDecoder;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Takes the place of Boot's issuer-based decoder: verified tokens are cached until they expire and the issuer's
+ * signing keys are re-fetched in the background ahead of their expiry (and immediately for an unknown key id),
+ * so requests neither re-verify signatures nor block on a JWKS round trip. The issuer is contacted lazily, on
+ * the first token.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.security.oauth2.resourceserver.jwt.issuer-uri")
+@AutoConfigureBefore(OAuth2ResourceServerAutoConfiguration.class)
+@EnableConfigurationProperties({DTBankProperties.class, OAuth2ResourceServerProperties.class})
+class DTBJwtDecoderAutoConfiguration {
+    private static final String OIDC_METADATA_PATH = "/.well-known/openid-configuration";
+    private static final Duration JWK_SET_REFRESH_TIMEOUT = Duration.ofSeconds(15);
+
+    static URI metadataUri(String issuerUri) {
+        var issuer = URI.create(issuerUri);
+        var path = issuer.getRawPath() != null ? issuer.getRawPath().replaceFirst("/+$", "") : "";
+        return UriComponentsBuilder.fromUri(issuer)
+                .replacePath(path + OIDC_METADATA_PATH)
+                .build(true)
+                .toUri();
+    }
+
+    /**
+     * Same checks as {@code JwtDecoders.fromIssuerLocation}: the metadata must be for the configured issuer.
+     */
+    static String jwkSetUri(String issuerUri, Map<String, Object> configuration) {
+        if (configuration == null || !issuerUri.equals(configuration.get("issuer"))) {
+            throw new IllegalStateException(
+                    "The issuer in the OpenID configuration of " + issuerUri + " does not match it"
+            );
+        }
+        if (!(configuration.get("jwks_uri") instanceof String jwkSetUri)) {
+            throw new IllegalStateException("Issuer " + issuerUri + " does not advertise a jwks_uri");
+        }
+        return jwkSetUri;
+    }
+
+    private static String discoverJwkSetUri(String issuerUri) {
+        var configuration = RestClient.create()
+                .get()
+                .uri(metadataUri(issuerUri))
+                .retrieve()
+                .body(new ParameterizedTypeReference<Map<String, Object>>() {
+                });
+        return jwkSetUri(issuerUri, configuration);
+    }
+
+    /**
+     * @return the configured {@code jws-algorithms} (RS256 unless set), as Boot's decoder accepts.
+     */
+    static Set<JWSAlgorithm> jwsAlgorithms(OAuth2ResourceServerProperties.Jwt properties) {
+        var names = properties.getJwsAlgorithms();
+        if (names == null || names.isEmpty()) {
+            return Set.of(JWSAlgorithm.RS256);
+        }
+
+        var algorithms = new HashSet<JWSAlgorithm>();
+        for (var name : names) {
+            var algorithm = SignatureAlgorithm.from(name);
+            if (algorithm == null) {
+                throw new IllegalStateException("Unsupported JWS algorithm " + name);
+            }
+            algorithms.add(JWSAlgorithm.parse(algorithm.getName()));
+        }
+        return algorithms;
+    }
+
+    private static JwtDecoder nimbusJwtDecoder(
+            OAuth2ResourceServerProperties.Jwt properties,
+            DTBankProperties.Jwt settings
+    ) {
+        var jwkSetUri = properties.getJwkSetUri() != null
+                ? properties.getJwkSetUri()
+                : discoverJwkSetUri(properties.getIssuerUri());
+        JWKSource<SecurityContext> jwkSource;
+        try {
+            jwkSource = JWKSourceBuilder.create(URI.create(jwkSetUri).toURL())
+                    .cache(settings.jwkSetTimeToLive().toMillis(), JWK_SET_REFRESH_TIMEOUT.toMillis())
+                    .refreshAheadCache(settings.jwkSetRefreshAhead().toMillis(), true)
+                    .retrying(true)
+                    .build();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Invalid JWK set URI " + jwkSetUri, e);
+        }
+
+        var jwtProcessor = new DefaultJWTProcessor<SecurityContext>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(jwsAlgorithms(properties), jwkSource));
+        // Claims are validated by Spring Security's validators below, as NimbusJwtDecoder's own builders do.
+        jwtProcessor.setJWTClaimsSetVerifier((_, _) -> {
+        });
+
+        var validators = new ArrayList<OAuth2TokenValidator<Jwt>>();
+        validators.add(JwtValidators.createDefaultWithIssuer(properties.getIssuerUri()));
+        var audiences = properties.getAudiences();
+        if (audiences != null && !audiences.isEmpty()) {
+            validators.add(new JwtClaimValidator<List<String>>(
+                    JwtClaimNames.AUD,
+                    aud -> aud != null && !Collections.disjoint(aud, audiences)
+            ));
+        }
+
+        var decoder = new NimbusJwtDecoder(jwtProcessor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(validators));
+        return decoder;
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(
+            OAuth2ResourceServerProperties resourceServerProperties,
+            DTBankProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        var settings = properties.jwt() != null
+                ? properties.jwt().orElse(DTBankProperties.Jwt.DEFAULTS)
+                : DTBankProperties.Jwt.DEFAULTS;
+        var jwt = resourceServerProperties.getJwt();
+        return new CachingJwtDecoder(
+                new SupplierJwtDecoder(() -> nimbusJwtDecoder(jwt, settings)),
+                settings.cacheMaximumSize(),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.ajharry69.autoconfigure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ajharry69.outbox.Outbox;
+import com.github.ajharry69.outbox.OutboxEvent;
+import com.github.ajharry69.outbox.OutboxEventRepository;
+import com.github.ajharry69.outbox.OutboxRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Transactional outbox for services that set {@code application.config.outbox.enabled=true}; each of them ships its
+ * own migration creating the {@code outbox_events} table.
+ * <p>
+ * The outbox package is added to the auto-configuration packages, so {@link OutboxEvent} and
+ * {@link OutboxEventRepository} are picked up by the same entity and repository scanning as the service's own.
+ */
+@Configuration
+@ConditionalOnClass(RabbitTemplate.class)
+@ConditionalOnProperty(prefix = "application.config.outbox", name = "enabled", havingValue = "true")
+@AutoConfigureBefore({HibernateJpaAutoConfiguration.class, JpaRepositoriesAutoConfiguration.class})
+@AutoConfigurationPackage(basePackageClasses = OutboxEvent.class)
+class DTBOutboxAutoConfiguration {
+    @Bean
+    public Outbox outbox(OutboxEventRepository repository, ObjectMapper objectMapper) {
+        return new Outbox(repository, objectMapper);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            OutboxEventRepository repository,
+            RabbitTemplate rabbitTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${application.config.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${application.config.outbox.relay.confirm-timeout:PT5S}") Duration confirmTimeout
+    ) {
+        return new OutboxRelay(
+                repository,
+                rabbitTemplate,
+                transactionTemplate,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                batchSize,
+                confirmTimeout
+        );
+    }
+}
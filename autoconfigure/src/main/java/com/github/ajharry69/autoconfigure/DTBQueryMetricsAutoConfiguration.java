@@ -0,0 +1,66 @@
+package com.github.ajharry69.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+
+/**
+ * Query instrumentation for every service with a {@code DataSource}: per-statement latency, statements per request
+ * and N+1 detection, tagged by HTTP route and repository method, plus a slow-query log. Turned off together with the
+ * {@code DataSource} proxy by {@code decorator.datasource.enabled=false}.
+ */
+@Configuration
+@AutoConfigureAfter(DataSourceAutoConfiguration.class)
+@ConditionalOnClass(QueryExecutionListener.class)
+@ConditionalOnProperty(prefix = "decorator.datasource", name = "enabled", matchIfMissing = true)
+@ConditionalOnBean(DataSource.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(DTBankProperties.class)
+class DTBQueryMetricsAutoConfiguration {
+    private static DTBankProperties.QueryMetrics settings(DTBankProperties properties) {
+        return properties.queryMetrics() != null
+                ? properties.queryMetrics().orElse(DTBankProperties.QueryMetrics.DEFAULTS)
+                : DTBankProperties.QueryMetrics.DEFAULTS;
+    }
+
+    @Bean
+    static BeanPostProcessor repositoryMethodInterceptorPostProcessor() {
+        return new RepositoryMethodInterceptorPostProcessor();
+    }
+
+    @Bean
+    public QueryExecutionListener queryMetricsListener(
+            DTBankProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new QueryMetricsListener(
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                settings(properties).slowQueryThreshold()
+        );
+    }
+
+    @Bean
+    public OncePerRequestFilter queryMetricsFilter(
+            DTBankProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new QueryMetricsFilter(
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                settings(properties).nPlusOneThreshold()
+        );
+    }
+}
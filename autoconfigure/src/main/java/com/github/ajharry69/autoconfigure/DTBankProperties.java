@@ -4,9 +4,26 @@ import org.hibernate.validator.constraints.URL;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+import java.util.Map;
+
 @ConfigurationProperties(prefix = "application.config")
 @Validated
-public record DTBankProperties(Zipkin zipkin, RabbitMq rabbitMq, Keycloak keycloak, Redis redis, Gateway gateway) {
+public record DTBankProperties(
+        Zipkin zipkin,
+        RabbitMq rabbitMq,
+        Keycloak keycloak,
+        Redis redis,
+        Gateway gateway,
+        Pagination pagination,
+        Feign feign,
+        Jwt jwt,
+        QueryMetrics queryMetrics
+) {
+    private static <T> T coalesce(T value, T fallback) {
+        return value != null ? value : fallback;
+    }
+
     record RabbitMq(boolean enabled) {
     }
 
@@ -19,6 +36,86 @@ public record DTBankProperties(Zipkin zipkin, RabbitMq rabbitMq, Keycloak keyclo
     record Keycloak(boolean enabled) {
     }
 
+    record Pagination(CountCache countCache) {
+    }
+
+    record CountCache(Duration timeToLive, Long maximumSize) {
+        static final CountCache DEFAULTS = new CountCache(Duration.ofSeconds(30), 1_000L);
+
+        CountCache orElse(CountCache fallback) {
+            return new CountCache(
+                    coalesce(timeToLive, fallback.timeToLive),
+                    coalesce(maximumSize, fallback.maximumSize)
+            );
+        }
+    }
+
+    record Jwt(Long cacheMaximumSize, Duration jwkSetTimeToLive, Duration jwkSetRefreshAhead) {
+        static final Jwt DEFAULTS = new Jwt(10_000L, Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+        Jwt orElse(Jwt fallback) {
+            return new Jwt(
+                    coalesce(cacheMaximumSize, fallback.cacheMaximumSize),
+                    coalesce(jwkSetTimeToLive, fallback.jwkSetTimeToLive),
+                    coalesce(jwkSetRefreshAhead, fallback.jwkSetRefreshAhead)
+            );
+        }
+    }
+
+    record QueryMetrics(Duration slowQueryThreshold, Integer nPlusOneThreshold) {
+        static final QueryMetrics DEFAULTS = new QueryMetrics(Duration.ofMillis(500), 10);
+
+        QueryMetrics orElse(QueryMetrics fallback) {
+            return new QueryMetrics(
+                    coalesce(slowQueryThreshold, fallback.slowQueryThreshold),
+                    coalesce(nPlusOneThreshold, fallback.nPlusOneThreshold)
+            );
+        }
+    }
+
+    record Feign(HttpClient httpClient, Map<String, HttpClient> clients) {
+        /**
+         * @return the settings of the Feign client named {@code name}, falling back to {@link #httpClient()}.
+         */
+        HttpClient httpClient(String name) {
+            var shared = httpClient != null ? httpClient.orElse(HttpClient.DEFAULTS) : HttpClient.DEFAULTS;
+            var overrides = clients != null ? clients.get(name) : null;
+            return overrides != null ? overrides.orElse(shared) : shared;
+        }
+    }
+
+    record HttpClient(
+            Integer maxConnections,
+            Integer maxConnectionsPerRoute,
+            Duration connectTimeout,
+            Duration readTimeout,
+            Duration connectionTimeToLive,
+            Duration idleTimeout,
+            Boolean compression
+    ) {
+        static final HttpClient DEFAULTS = new HttpClient(
+                200,
+                50,
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(10),
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(30),
+                true
+        );
+
+        HttpClient orElse(HttpClient fallback) {
+            return new HttpClient(
+                    coalesce(maxConnections, fallback.maxConnections),
+                    coalesce(maxConnectionsPerRoute, fallback.maxConnectionsPerRoute),
+                    coalesce(connectTimeout, fallback.connectTimeout),
+                    coalesce(readTimeout, fallback.readTimeout),
+                    coalesce(connectionTimeToLive, fallback.connectionTimeToLive),
+                    coalesce(idleTimeout, fallback.idleTimeout),
+                    coalesce(compression, fallback.compression)
+            );
+        }
+    }
+
     @Validated
     record Gateway(@URL(regexp = ".*[^/]$") String url) {
     }
@@ -0,0 +1,55 @@
+package com.github.ajharry69.autoconfigure;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+
+/**
+ * Times every Feign call as {@value #METRIC_NAME}, tagged with the {@code route} it took: {@code direct} when the
+ * target is resolved through service discovery and {@code gateway} when it is sent through the API gateway. This
+ * allows the latency of both paths to be compared side by side.
+ */
+class FeignRouteMetricsCapability implements Capability {
+    static final String METRIC_NAME = "dtb.feign.requests";
+    static final String ROUTE_DIRECT = "direct";
+    static final String ROUTE_GATEWAY = "gateway";
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    FeignRouteMetricsCapability(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    private static String clientName(Request request) {
+        var template = request.requestTemplate();
+        return template != null && template.feignTarget() != null ? template.feignTarget().name() : UNKNOWN;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        var route = client instanceof FeignBlockingLoadBalancerClient ? ROUTE_DIRECT : ROUTE_GATEWAY;
+        return (request, options) -> {
+            var sample = Timer.start(meterRegistry);
+            var status = "IO_ERROR";
+            try {
+                var response = client.execute(request, options);
+                status = String.valueOf(response.status());
+                return response;
+            } finally {
+                sample.stop(
+                        Timer.builder(METRIC_NAME)
+                                .description("Outbound Feign calls by client and route")
+                                .tag("client", clientName(request))
+                                .tag("route", route)
+                                .tag("method", request.httpMethod().name())
+                                .tag("status", status)
+                                .register(meterRegistry)
+                );
+            }
+        };
+    }
+}
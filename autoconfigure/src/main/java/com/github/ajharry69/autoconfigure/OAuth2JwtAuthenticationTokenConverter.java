@@ -1,5 +1,8 @@
 package com.github.ajharry69.autoconfigure;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.convert.converter.Converter;
@@ -9,48 +12,123 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
-import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Converts a verified {@link Jwt} into a {@link JwtAuthenticationToken} carrying its {@code SCOPE_*} and
+ * {@code ROLE_*} authorities.
+ * <p>
+ * A token is typically presented many times during its lifetime, so its authorities are computed once and cached
+ * (keyed by {@code jti}, or the token itself when it has none) until the token expires. The authorities themselves
+ * are interned, so every token that grants, say, {@code SCOPE_card.read} shares the same instance.
+ */
 @Component
 public class OAuth2JwtAuthenticationTokenConverter implements Converter<Jwt, AbstractAuthenticationToken> {
     private static final Logger log = LoggerFactory.getLogger(OAuth2JwtAuthenticationTokenConverter.class);
-    private final JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    // Authorities are drawn from the realm's (small) set of scopes and roles; the bound only guards against a
+    // misbehaving issuer.
+    private static final int MAX_INTERNED_AUTHORITIES = 1_024;
+    private static final Map<String, GrantedAuthority> INTERNED_AUTHORITIES = new ConcurrentHashMap<>();
+    private static final String SCOPE_PREFIX = "SCOPE_";
+    private static final String ROLE_PREFIX = "ROLE_";
 
-    @Override
-    @NonNull
-    public AbstractAuthenticationToken convert(@NonNull Jwt jwt) {
-        log.debug("Extracting JWT authorities...");
-        Collection<GrantedAuthority> scopeAuthorities = jwtGrantedAuthoritiesConverter.convert(jwt);
+    private final Cache<String, CachedAuthorities> cache;
 
-        Collection<GrantedAuthority> roleAuthorities = extractRoles(jwt);
+    public OAuth2JwtAuthenticationTokenConverter() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize number of distinct tokens whose authorities are kept.
+     */
+    public OAuth2JwtAuthenticationTokenConverter(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<String, CachedAuthorities>creating((_, value) -> value.timeToLive()))
+                .build();
+    }
 
-        Collection<GrantedAuthority> authorities = Stream.concat(
-                scopeAuthorities.stream(),
-                roleAuthorities.stream()
-        ).collect(Collectors.toSet());
+    private static GrantedAuthority intern(String authority) {
+        var interned = INTERNED_AUTHORITIES.get(authority);
+        if (interned != null) {
+            return interned;
+        }
+        if (INTERNED_AUTHORITIES.size() >= MAX_INTERNED_AUTHORITIES) {
+            return new SimpleGrantedAuthority(authority);
+        }
+        return INTERNED_AUTHORITIES.computeIfAbsent(authority, SimpleGrantedAuthority::new);
+    }
+
+    private static String cacheKey(Jwt jwt) {
+        var id = jwt.getId();
+        return id != null ? id : jwt.getTokenValue();
+    }
 
-        String principalName = jwt.getSubject();
-        log.debug("Extracted JWT authorities for principal '{}': {}", principalName, authorities);
+    /**
+     * Reads {@code scope}, or {@code scp} when it is missing or blank, as a space-separated string or a list.
+     */
+    private static void addScopes(Jwt jwt, Set<GrantedAuthority> authorities) {
+        var scopes = jwt.getClaims().get("scope");
+        if (scopes == null || scopes instanceof String value && value.isBlank()) {
+            scopes = jwt.getClaims().get("scp");
+        }
 
-        return new JwtAuthenticationToken(jwt, authorities, principalName);
+        if (scopes instanceof String value) {
+            for (var scope : value.split(" ")) {
+                if (!scope.isEmpty()) {
+                    authorities.add(intern(SCOPE_PREFIX + scope));
+                }
+            }
+        } else if (scopes instanceof Collection<?> values) {
+            for (var scope : values) {
+                if (scope instanceof String value) {
+                    authorities.add(intern(SCOPE_PREFIX + value));
+                }
+            }
+        }
     }
 
-    private Collection<GrantedAuthority> extractRoles(Jwt jwt) {
+    private static void addRoles(Jwt jwt, Set<GrantedAuthority> authorities) {
         var realmAccess = jwt.getClaimAsMap("realm_access");
         if (realmAccess != null && realmAccess.get("roles") instanceof Collection<?> roles) {
-            return roles.stream()
-                    .filter(String.class::isInstance)
-                    .map(String.class::cast)
-                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
-                    .collect(Collectors.toSet());
+            for (var role : roles) {
+                if (role instanceof String value) {
+                    authorities.add(intern(ROLE_PREFIX + value.toUpperCase()));
+                }
+            }
         }
+    }
 
-        return Collections.emptySet();
+    private static CachedAuthorities extractAuthorities(Jwt jwt) {
+        var authorities = new HashSet<GrantedAuthority>();
+        addScopes(jwt, authorities);
+        addRoles(jwt, authorities);
+        log.debug("Extracted JWT authorities for principal '{}': {}", jwt.getSubject(), authorities);
+        return new CachedAuthorities(Set.copyOf(authorities), jwt.getExpiresAt());
+    }
+
+    @Override
+    @NonNull
+    public AbstractAuthenticationToken convert(@NonNull Jwt jwt) {
+        var authorities = jwt.getExpiresAt() != null
+                ? cache.get(cacheKey(jwt), _ -> extractAuthorities(jwt)).authorities()
+                : extractAuthorities(jwt).authorities();
+        return new JwtAuthenticationToken(jwt, authorities, jwt.getSubject());
+    }
+
+    private record CachedAuthorities(Set<GrantedAuthority> authorities, Instant expiresAt) {
+        Duration timeToLive() {
+            var timeToLive = Duration.between(Instant.now(), expiresAt);
+            return timeToLive.isNegative() ? Duration.ZERO : timeToLive;
+        }
     }
 }
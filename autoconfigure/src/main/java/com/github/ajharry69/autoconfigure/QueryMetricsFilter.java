@@ -0,0 +1,77 @@
+package com.github.ajharry69.autoconfigure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Counts the JDBC statements each request issues, recorded per route as {@value #STATEMENTS_METRIC_NAME}, and
+ * reports statements that one request repeats at least {@code nPlusOneThreshold} times as a likely N+1, both in
+ * {@value #REPEATED_METRIC_NAME} and in the log.
+ */
+class QueryMetricsFilter extends OncePerRequestFilter {
+    static final String STATEMENTS_METRIC_NAME = "dtb.db.request.statements";
+    static final String REPEATED_METRIC_NAME = "dtb.db.repeated.statements";
+    private static final Logger log = LoggerFactory.getLogger(QueryMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    QueryMetricsFilter(MeterRegistry meterRegistry, int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        var statistics = RequestQueryStatistics.start(request);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStatistics.stop();
+            record(statistics);
+        }
+    }
+
+    private void record(RequestQueryStatistics statistics) {
+        var route = statistics.route();
+        DistributionSummary.builder(STATEMENTS_METRIC_NAME)
+                .description("JDBC statements issued per HTTP request")
+                .baseUnit("statements")
+                .tag("route", route)
+                .tag("method", statistics.method())
+                .register(meterRegistry)
+                .record(statistics.total());
+
+        for (var statement : statistics.repeated(nPlusOneThreshold)) {
+            Counter.builder(REPEATED_METRIC_NAME)
+                    .description("Statements repeated within one HTTP request, a likely N+1")
+                    .tag("route", route)
+                    .tag("repository", statement.repositoryMethod())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn(
+                    "Likely N+1 on {} {}: statement from {} executed {} times: {}",
+                    statistics.method(),
+                    route,
+                    statement.repositoryMethod(),
+                    statement.executions(),
+                    statement.sql()
+            );
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.ajharry69.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every JDBC statement as {@value #METRIC_NAME}, tagged with its type, the HTTP {@code route} being served
+ * and the Spring Data {@code repository} method that issued it ({@value #NONE} for either when there is none, e.g.
+ * for statements flushed when a service's transaction commits). Statements that take at least the slow-query
+ * threshold are logged, without their parameters.
+ * <p>
+ * Registered with the {@code DataSource} proxy of {@code datasource-proxy-spring-boot-starter}, which picks up every
+ * {@link QueryExecutionListener} bean.
+ */
+class QueryMetricsListener implements QueryExecutionListener {
+    static final String METRIC_NAME = "dtb.db.statements";
+    static final String NONE = "none";
+    private static final Logger log = LoggerFactory.getLogger(QueryMetricsListener.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdMillis;
+
+    QueryMetricsListener(MeterRegistry meterRegistry, Duration slowQueryThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+    }
+
+    private static String type(List<QueryInfo> queries) {
+        if (queries.isEmpty()) {
+            return NONE;
+        }
+        return QueryUtils.getQueryType(queries.getFirst().getQuery()).name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        var statistics = RequestQueryStatistics.current();
+        var route = statistics != null ? statistics.route() : NONE;
+        var repositoryMethod = RepositoryMethodInterceptor.current();
+        if (repositoryMethod == null) {
+            repositoryMethod = NONE;
+        }
+
+        Timer.builder(METRIC_NAME)
+                .description("JDBC statements by HTTP route and repository method")
+                .tag("type", type(queryInfoList))
+                .tag("route", route)
+                .tag("repository", repositoryMethod)
+                .tag("outcome", execInfo.isSuccess() ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(execInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+
+        if (statistics != null) {
+            for (var query : queryInfoList) {
+                statistics.record(query.getQuery(), repositoryMethod);
+            }
+        }
+
+        if (execInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+            for (var query : queryInfoList) {
+                log.warn(
+                        "Slow query ({} ms) on route {} from {}: {}",
+                        execInfo.getElapsedTime(),
+                        route,
+                        repositoryMethod,
+                        query.getQuery()
+                );
+            }
+        }
+    }
+}
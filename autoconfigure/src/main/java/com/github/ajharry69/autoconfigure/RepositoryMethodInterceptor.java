@@ -0,0 +1,48 @@
+package com.github.ajharry69.autoconfigure;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which Spring Data repository method (e.g. {@code CustomerRepository.findById}) the current thread is
+ * executing, so that {@link QueryMetricsListener} can attribute the statements it issues. When one repository method
+ * calls another, statements are attributed to the outermost one.
+ */
+final class RepositoryMethodInterceptor implements MethodInterceptor {
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final String repositoryName;
+    private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+    RepositoryMethodInterceptor(Class<?> repositoryInterface) {
+        this.repositoryName = repositoryInterface.getSimpleName();
+    }
+
+    /**
+     * @return the repository method being executed, or {@code null} outside of one.
+     */
+    @Nullable
+    static String current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        if (CURRENT.get() != null) {
+            return invocation.proceed();
+        }
+
+        CURRENT.set(names.computeIfAbsent(invocation.getMethod(), method -> repositoryName + "." + method.getName()));
+        try {
+            return invocation.proceed();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.ajharry69.autoconfigure;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.lang.NonNull;
+
+/**
+ * Adds a {@link RepositoryMethodInterceptor} to every Spring Data repository, the same way Boot adds its repository
+ * invocation metrics.
+ */
+class RepositoryMethodInterceptorPostProcessor implements BeanPostProcessor {
+    @Override
+    public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            new RepositoryMethodInterceptor(repositoryInformation.getRepositoryInterface())
+                    )
+            ));
+        }
+        return bean;
+    }
+}
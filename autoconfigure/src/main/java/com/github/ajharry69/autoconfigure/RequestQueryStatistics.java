@@ -0,0 +1,100 @@
+package com.github.ajharry69.autoconfigure;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statements issued while serving one HTTP request on the request's thread. Statements issued on other threads
+ * (e.g. by tasks the request hands to an executor) are not counted.
+ */
+final class RequestQueryStatistics {
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+    private static final ThreadLocal<RequestQueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private final HttpServletRequest request;
+    private final Map<String, Statement> statements = new HashMap<>();
+    private int total;
+
+    private RequestQueryStatistics(HttpServletRequest request) {
+        this.request = request;
+    }
+
+    static RequestQueryStatistics start(HttpServletRequest request) {
+        var statistics = new RequestQueryStatistics(request);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    @Nullable
+    static RequestQueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return the matched route (e.g. {@code /api/v1/customers/{customerId}}), or {@value #UNKNOWN_ROUTE} until
+     * the request has been mapped to a handler or when it never is.
+     */
+    String route() {
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern
+                ? pattern
+                : UNKNOWN_ROUTE;
+    }
+
+    String method() {
+        return request.getMethod();
+    }
+
+    void record(String sql, String repositoryMethod) {
+        total++;
+        statements.computeIfAbsent(sql, _ -> new Statement(sql, repositoryMethod)).executions++;
+    }
+
+    int total() {
+        return total;
+    }
+
+    /**
+     * @return statements executed at least {@code threshold} times, the usual sign of an N+1 access pattern.
+     */
+    List<Statement> repeated(int threshold) {
+        return statements.values()
+                .stream()
+                .filter(statement -> statement.executions >= threshold)
+                .toList();
+    }
+
+    static final class Statement {
+        private final String sql;
+        private final String repositoryMethod;
+        private int executions;
+
+        private Statement(String sql, String repositoryMethod) {
+            this.sql = sql;
+            this.repositoryMethod = repositoryMethod;
+        }
+
+        String sql() {
+            return sql;
+        }
+
+        /**
+         * @return the repository method that first issued the statement.
+         */
+        String repositoryMethod() {
+            return repositoryMethod;
+        }
+
+        int executions() {
+            return executions;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.ajharry69.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends DTBException {
+    public InvalidCursorException() {
+        super(HttpStatus.BAD_REQUEST, "INVALID_CURSOR");
+    }
+}
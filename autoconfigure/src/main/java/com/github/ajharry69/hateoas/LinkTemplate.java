@@ -0,0 +1,89 @@
+package com.github.ajharry69.hateoas;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * A link to a controller method that is identified by a single {@link UUID}, built with
+ * {@code linkTo(methodOn(...))} once and then expanded by string concatenation.
+ * <p>
+ * {@code methodOn} proxies the controller and re-resolves its mapping on every call, which is wasteful when the only
+ * part of the link that varies is the id. The link is instead built once for a placeholder id, split around it and
+ * joined with each id in turn behind the current request's base URI, which is exactly what {@code linkTo} would have
+ * produced. Outside a request, or when the link cannot be split, every link is built with {@code linkTo}.
+ */
+public final class LinkTemplate {
+    private static final String PLACEHOLDER = UUID.fromString("3f0b3c7e-5d2a-4c1e-9a4b-7e6d8f2a1c90").toString();
+    private static final String BASE_URI_ATTRIBUTE = LinkTemplate.class.getName() + ".BASE_URI";
+    private static final Parts NOT_SPLITTABLE = new Parts(null, null);
+
+    private final Function<UUID, WebMvcLinkBuilder> linkBuilder;
+    private volatile Parts parts;
+
+    private LinkTemplate(Function<UUID, WebMvcLinkBuilder> linkBuilder) {
+        this.linkBuilder = linkBuilder;
+    }
+
+    /**
+     * @param linkBuilder builds the link for an id, e.g. {@code id -> linkTo(methodOn(X.class).get(id))}. Every
+     *                    other argument of the controller method must be constant.
+     */
+    public static LinkTemplate of(Function<UUID, WebMvcLinkBuilder> linkBuilder) {
+        return new LinkTemplate(linkBuilder);
+    }
+
+    /**
+     * Same base URI as {@link WebMvcLinkBuilder} resolves, worked out once per request.
+     */
+    private static String baseUri(RequestAttributes attributes) {
+        var baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+
+    private Parts split(String baseUri) {
+        var href = linkBuilder.apply(UUID.fromString(PLACEHOLDER)).withSelfRel().getHref();
+        var index = href.indexOf(PLACEHOLDER);
+        if (!href.startsWith(baseUri) || index < baseUri.length() || index != href.lastIndexOf(PLACEHOLDER)) {
+            return NOT_SPLITTABLE;
+        }
+        return new Parts(
+                href.substring(baseUri.length(), index),
+                href.substring(index + PLACEHOLDER.length())
+        );
+    }
+
+    public Link toLink(UUID id, LinkRelation relation) {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return linkBuilder.apply(id).withRel(relation);
+        }
+
+        var baseUri = baseUri(attributes);
+        var parts = this.parts;
+        if (parts == null) {
+            parts = split(baseUri);
+            this.parts = parts;
+        }
+        if (parts == NOT_SPLITTABLE) {
+            return linkBuilder.apply(id).withRel(relation);
+        }
+        return Link.of(baseUri + parts.beforeId() + id + parts.afterId(), relation);
+    }
+
+    /**
+     * The link either side of the id, relative to the base URI.
+     */
+    private record Parts(String beforeId, String afterId) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.ajharry69.lookup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Result of looking up many entities by ID in one query.
+ *
+ * @param found    what was found, mapped and keyed by ID, in the order the IDs were requested.
+ * @param notFound requested IDs without an entity.
+ */
+public record IdLookup<T>(Map<UUID, T> found, List<UUID> notFound) {
+    /**
+     * @param load loads the entities of the (distinct) IDs, e.g. with a single array parameter.
+     */
+    public static <E, T> IdLookup<T> of(
+            Collection<UUID> ids,
+            Function<UUID[], List<E>> load,
+            Function<E, UUID> idOf,
+            Function<E, T> mapper
+    ) {
+        var distinctIds = new LinkedHashSet<>(ids);
+        Map<UUID, E> loaded = HashMap.newHashMap(distinctIds.size());
+        for (var entity : load.apply(distinctIds.toArray(UUID[]::new))) {
+            loaded.put(idOf.apply(entity), entity);
+        }
+
+        var found = new LinkedHashMap<UUID, T>();
+        var notFound = new ArrayList<UUID>();
+        for (var id : distinctIds) {
+            var entity = loaded.get(id);
+            if (entity == null) {
+                notFound.add(id);
+            } else {
+                found.put(id, mapper.apply(entity));
+            }
+        }
+        return new IdLookup<>(found, notFound);
+    }
+
+    public int requested() {
+        return found.size() + notFound.size();
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.ajharry69.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@RequiredArgsConstructor
+public class Outbox {
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records {@code event} for publishing to {@code exchange} once the caller's transaction commits. Nothing is
+     * published if that transaction rolls back.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String exchange, String routingKey, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize outbox event: " + event, e);
+        }
+
+        var outboxEvent = repository.save(
+                OutboxEvent.builder()
+                        .exchange(exchange)
+                        .routingKey(routingKey)
+                        .type(event.getClass().getName())
+                        .payload(payload)
+                        .build()
+        );
+        log.debug("Enqueued outbox event {}: {}", outboxEvent.getId(), event);
+    }
+}
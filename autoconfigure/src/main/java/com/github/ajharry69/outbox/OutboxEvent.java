@@ -0,0 +1,37 @@
+package com.github.ajharry69.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A message written in the same transaction as the state change it announces, and relayed to the broker by
+ * {@link OutboxRelay} once that transaction has committed.
+ */
+@Entity(name = "outbox_events")
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(value = AuditingEntityListener.class)
+public class OutboxEvent {
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    OffsetDateTime dateCreated;
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    @Column(nullable = false)
+    private String exchange;
+    @Column(nullable = false)
+    private String routingKey;
+    @Column(nullable = false)
+    private String type;
+    @Column(nullable = false)
+    private String payload;
+}
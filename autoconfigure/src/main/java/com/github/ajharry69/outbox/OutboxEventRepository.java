@@ -0,0 +1,25 @@
+package com.github.ajharry69.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+    /**
+     * Locks the oldest pending events. Rows already locked by another replica's relay are skipped rather than
+     * waited on, so replicas drain disjoint batches concurrently.
+     */
+    @Query(
+            value = "select * from outbox_events order by date_created limit :limit for update skip locked",
+            nativeQuery = true
+    )
+    List<OutboxEvent> findNextBatchForUpdate(@Param("limit") int limit);
+
+    @Query("select min(e.dateCreated) from outbox_events e")
+    Optional<OffsetDateTime> findOldestDateCreated();
+}
@@ -0,0 +1,148 @@
+package com.github.ajharry69.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains {@link OutboxEvent}s to RabbitMQ in batches, off the request path.
+ * <p>
+ * Each batch is locked, published, and deleted in one transaction. An event is only deleted once the broker has
+ * confirmed it (when publisher confirms are enabled), so anything not confirmed is retried on the next run.
+ * Delivery is therefore at-least-once and consumers must tolerate duplicates.
+ */
+@Slf4j
+public class OutboxRelay {
+    private final OutboxEventRepository repository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration confirmTimeout;
+    private final boolean publisherConfirms;
+    private final Counter published;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    public OutboxRelay(
+            OutboxEventRepository repository,
+            RabbitTemplate rabbitTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            int batchSize,
+            Duration confirmTimeout
+    ) {
+        this.repository = repository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.publisherConfirms = rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+        if (!publisherConfirms) {
+            log.warn("Publisher confirms are disabled. Outbox events will be deleted as soon as they are sent.");
+        }
+
+        this.published = Counter.builder("outbox.events.published")
+                .description("Outbox events confirmed by the broker")
+                .register(meterRegistry);
+        this.failed = Counter.builder("outbox.events.failed")
+                .description("Outbox events the broker did not confirm; they are retried on the next run")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Time taken to publish and delete one batch of outbox events")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", repository, OutboxRelay::lagSeconds)
+                .description("Age of the oldest outbox event that is yet to be published")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    private static double lagSeconds(OutboxEventRepository repository) {
+        return repository.findOldestDateCreated()
+                .map(dateCreated -> Duration.between(dateCreated, OffsetDateTime.now()).toMillis() / 1000.0)
+                .orElse(0.0);
+    }
+
+    private static Message toMessage(OutboxEvent event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(event.getId().toString())
+                .setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getType())
+                .build();
+    }
+
+    @Scheduled(
+            initialDelayString = "${application.config.outbox.relay.initial-delay:PT5S}",
+            fixedDelayString = "${application.config.outbox.relay.fixed-delay:PT0.5S}"
+    )
+    public void relay() {
+        Integer relayed;
+        do {
+            relayed = batchTimer.record(() -> transactionTemplate.execute(_ -> relayBatch()));
+        } while (relayed != null && relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = repository.findNextBatchForUpdate(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<CorrelationData> correlations = new ArrayList<>(events.size());
+        for (var event : events) {
+            var correlation = new CorrelationData(event.getId().toString());
+            rabbitTemplate.send(event.getExchange(), event.getRoutingKey(), toMessage(event), correlation);
+            correlations.add(correlation);
+        }
+
+        List<UUID> confirmed = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            var eventId = events.get(i).getId();
+            if (!publisherConfirms || isConfirmed(eventId, correlations.get(i))) {
+                confirmed.add(eventId);
+            }
+        }
+
+        repository.deleteAllByIdInBatch(confirmed);
+        published.increment(confirmed.size());
+        failed.increment(events.size() - confirmed.size());
+        log.debug("Relayed {} of {} outbox events", confirmed.size(), events.size());
+        return confirmed.size();
+    }
+
+    private boolean isConfirmed(UUID eventId, CorrelationData correlation) {
+        try {
+            var confirm = correlation.getFuture().get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (!confirm.isAck()) {
+                log.warn("Broker rejected outbox event {}: {}", eventId, confirm.getReason());
+            }
+            return confirm.isAck();
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn("Outbox event {} was not confirmed: {}", eventId, e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
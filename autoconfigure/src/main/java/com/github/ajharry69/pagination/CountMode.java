@@ -0,0 +1,22 @@
+package com.github.ajharry69.pagination;
+
+/**
+ * How the total number of matching rows in a page's metadata is obtained.
+ */
+public enum CountMode {
+    /**
+     * A {@code count(*)} is issued with every page.
+     */
+    EXACT,
+    /**
+     * No {@code count(*)} is issued. The total is a lower bound: the rows seen so far plus one if more follow.
+     */
+    NONE,
+    /**
+     * The total comes from a {@code count(*)} shared by identical queries for a bounded period of time, so it
+     * may be stale by up to that period.
+     */
+    CACHED;
+
+    public static final String PARAMETER = "count";
+}
@@ -0,0 +1,21 @@
+package com.github.ajharry69.pagination;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.hateoas.PagedModel;
+
+/**
+ * {@link PagedModel.PageMetadata} that also says how {@code totalElements} was obtained.
+ */
+public class CountedPageMetadata extends PagedModel.PageMetadata {
+    @JsonProperty
+    private final CountMode count;
+
+    public CountedPageMetadata(PagedModel.PageMetadata metadata, CountMode count) {
+        super(metadata.getSize(), metadata.getNumber(), metadata.getTotalElements(), metadata.getTotalPages());
+        this.count = count;
+    }
+
+    public CountMode getCount() {
+        return count;
+    }
+}
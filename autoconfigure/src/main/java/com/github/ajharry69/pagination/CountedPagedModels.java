@@ -0,0 +1,23 @@
+package com.github.ajharry69.pagination;
+
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.PagedModel;
+
+public final class CountedPagedModels {
+    private CountedPagedModels() {
+    }
+
+    /**
+     * Replaces {@code model}'s metadata with a {@link CountedPageMetadata}. The {@code last} link is dropped when
+     * nothing was counted since the last page is unknown.
+     */
+    public static <T> PagedModel<T> withCount(PagedModel<T> model, CountMode count) {
+        var metadata = model.getMetadata();
+        if (metadata == null) {
+            return model;
+        }
+
+        var links = count == CountMode.NONE ? model.getLinks().without(IanaLinkRelations.LAST) : model.getLinks();
+        return PagedModel.of(model.getContent(), new CountedPageMetadata(metadata, count), links);
+    }
+}
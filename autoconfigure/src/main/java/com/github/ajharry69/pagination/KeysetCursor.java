@@ -0,0 +1,81 @@
+package com.github.ajharry69.pagination;
+
+import com.github.ajharry69.exceptions.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a page in a listing ordered by {@code (dateCreated desc, id desc)}.
+ * <p>
+ * Clients receive it as an opaque token and send it back in the {@value #PARAMETER} request parameter to get the
+ * rows that follow. Seeking from the last row, rather than skipping an offset, keeps every page as cheap as the
+ * first and needs no {@code count(*)}.
+ */
+public record KeysetCursor(OffsetDateTime dateCreated, UUID id) {
+    public static final String PARAMETER = "cursor";
+    public static final Sort SORT = Sort.by(Sort.Order.desc("dateCreated"), Sort.Order.desc("id"));
+    private static final String SEPARATOR = "|";
+
+    /**
+     * @param token token from a previous page, or an empty string for the first page.
+     * @throws InvalidCursorException if {@code token} was not issued by {@link #encode()}.
+     */
+    public static ScrollPosition scrollPosition(String token) {
+        if (!StringUtils.hasText(token)) {
+            return ScrollPosition.keyset();
+        }
+        return decode(token).toScrollPosition();
+    }
+
+    /**
+     * @return token of the page that follows {@code window}, if any.
+     */
+    public static Optional<String> nextToken(Window<?> window) {
+        if (window.isEmpty() || !window.hasNext()) {
+            return Optional.empty();
+        }
+
+        var keys = ((KeysetScrollPosition) window.positionAt(window.size() - 1)).getKeys();
+        var cursor = new KeysetCursor((OffsetDateTime) keys.get("dateCreated"), (UUID) keys.get("id"));
+        return Optional.of(cursor.encode());
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidCursorException();
+            }
+            return new KeysetCursor(
+                    OffsetDateTime.parse(decoded.substring(0, separatorIndex)),
+                    UUID.fromString(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        var value = dateCreated.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public KeysetScrollPosition toScrollPosition() {
+        var keys = new LinkedHashMap<String, Object>();
+        keys.put("dateCreated", dateCreated);
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+}
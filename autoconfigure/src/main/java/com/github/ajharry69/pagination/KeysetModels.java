@@ -0,0 +1,38 @@
+package com.github.ajharry69.pagination;
+
+import org.springframework.data.domain.Window;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+public final class KeysetModels {
+    private KeysetModels() {
+    }
+
+    /**
+     * Wraps {@code window} in a {@link CollectionModel} with a {@code self} link and, unless this is the last
+     * page, a {@code next} link that carries the continuation {@link KeysetCursor} and every other parameter of
+     * the current request.
+     */
+    public static <T> CollectionModel<EntityModel<T>> toModel(
+            Window<T> window,
+            RepresentationModelAssembler<T, EntityModel<T>> assembler
+    ) {
+        List<EntityModel<T>> content = window.stream()
+                .map(assembler::toModel)
+                .toList();
+        var model = CollectionModel.of(content)
+                .add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        KeysetCursor.nextToken(window)
+                .map(token -> ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQueryParam(KeysetCursor.PARAMETER, token)
+                        .toUriString())
+                .ifPresent(href -> model.add(Link.of(href, IanaLinkRelations.NEXT)));
+        return model;
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.ajharry69.pagination;
+
+import org.springframework.hateoas.PagedModel;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page in the {@link LeanPages#MEDIA_TYPE_VALUE lean} representation: the elements as a plain array, without
+ * links of their own, and the page's links keyed by relation.
+ */
+public record LeanPage<T>(List<T> content, PagedModel.PageMetadata page, Map<String, String> links) {
+}
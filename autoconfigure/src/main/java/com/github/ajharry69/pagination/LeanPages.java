@@ -0,0 +1,34 @@
+package com.github.ajharry69.pagination;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.Link;
+import org.springframework.http.MediaType;
+
+import java.util.LinkedHashMap;
+
+public final class LeanPages {
+    /**
+     * Media type of a {@link LeanPage}, for clients that do not follow per-element links and would rather not pay
+     * for building them.
+     */
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.dtb.lean+json";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private LeanPages() {
+    }
+
+    /**
+     * Same metadata and page-level links as {@link CountedPagedModels#withCount} gives the HAL representation of
+     * {@code page}, but with the elements left as they are.
+     */
+    public static <T> LeanPage<T> of(Page<T> page, PagedResourcesAssembler<T> pageAssembler, CountMode count) {
+        // Without an assembler, the elements are wrapped without links, so only the page's links are built.
+        var model = CountedPagedModels.withCount(pageAssembler.toModel(page), count);
+        var links = new LinkedHashMap<String, String>();
+        for (Link link : model.getLinks()) {
+            links.putIfAbsent(link.getRel().value(), link.getHref());
+        }
+        return new LeanPage<>(page.getContent(), model.getMetadata(), links);
+    }
+}
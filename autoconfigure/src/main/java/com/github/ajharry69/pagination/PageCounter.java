@@ -0,0 +1,94 @@
+package com.github.ajharry69.pagination;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pages through specification queries, counting matches as requested by a {@link CountMode}.
+ */
+public class PageCounter {
+    private final Cache<Object, Long> counts;
+
+    public PageCounter(Duration timeToLive, long maximumSize) {
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(timeToLive)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    private static <T> Page<T> uncounted(Slice<T> slice) {
+        var total = slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    /**
+     * @param countKey identifies the filter behind {@code specification}; queries with equal keys share a
+     *                 {@link CountMode#CACHED} count, so it must implement {@code equals} and {@code hashCode}.
+     */
+    public <T, R extends JpaSpecificationExecutor<T> & SliceSpecificationExecutor<T>> Page<T> findAll(
+            R repository,
+            Specification<T> specification,
+            Object countKey,
+            Pageable pageable,
+            CountMode countMode
+    ) {
+        return switch (countMode) {
+            case EXACT -> repository.findAll(specification, pageable);
+            case NONE -> uncounted(repository.findSlice(specification, pageable));
+            case CACHED -> {
+                var slice = repository.findSlice(specification, pageable);
+                yield new PageImpl<>(slice.getContent(), pageable, cachedCount(repository, specification, countKey));
+            }
+        };
+    }
+
+    /**
+     * Same as {@link #findAll(JpaSpecificationExecutor, Specification, Object, Pageable, CountMode)}, but selecting
+     * only {@code attributes} (see {@link Projections}). Counts are shared with unprojected queries.
+     */
+    public <T, R extends JpaSpecificationExecutor<T> & ProjectionSpecificationExecutor<T>>
+    Page<Map<String, Object>> findAll(
+            R repository,
+            Specification<T> specification,
+            Collection<String> attributes,
+            Object countKey,
+            Pageable pageable,
+            CountMode countMode
+    ) {
+        var slice = repository.findProjectedSlice(specification, attributes, pageable);
+        return switch (countMode) {
+            case EXACT -> PageableExecutionUtils.getPage(
+                    slice.getContent(),
+                    pageable,
+                    () -> repository.count(specification)
+            );
+            case NONE -> uncounted(slice);
+            case CACHED -> new PageImpl<>(
+                    slice.getContent(),
+                    pageable,
+                    cachedCount(repository, specification, countKey)
+            );
+        };
+    }
+
+    private <T> long cachedCount(
+            JpaSpecificationExecutor<T> repository,
+            Specification<T> specification,
+            Object countKey
+    ) {
+        var key = List.of(specification.getClass().getName(), countKey);
+        return counts.get(key, _ -> repository.count(specification));
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.ajharry69.pagination;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+
+/**
+ * Leaves the fields that were not requested through {@value Projections#PARAMETER} out of the response of the
+ * handlers that accept the parameter. Responses of other handlers, and unprojected ones, keep all their fields
+ * (including {@code null} ones).
+ */
+@ControllerAdvice
+public class ProjectionResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+    private static boolean acceptsProjection(Method method) {
+        if (method == null) {
+            return false;
+        }
+
+        for (var parameter : method.getParameters()) {
+            var requestParam = AnnotatedElementUtils.findMergedAnnotation(parameter, RequestParam.class);
+            if (requestParam != null && Projections.PARAMETER.equals(requestParam.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType) && acceptsProjection(returnType.getMethod());
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(
+            MappingJacksonValue bodyContainer,
+            MediaType contentType,
+            MethodParameter returnType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+
+        var values = servletRequest.getServletRequest().getParameterValues(Projections.PARAMETER);
+        if (values == null) {
+            return;
+        }
+
+        var fields = new ArrayList<String>();
+        for (var value : values) {
+            fields.addAll(StringUtils.commaDelimitedListToSet(value));
+        }
+        fields.removeIf(String::isBlank);
+        if (!fields.isEmpty()) {
+            bodyContainer.setFilters(Projections.projected(fields));
+        }
+    }
+}
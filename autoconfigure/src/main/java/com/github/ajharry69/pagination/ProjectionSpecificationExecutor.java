@@ -0,0 +1,22 @@
+package com.github.ajharry69.pagination;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Repository fragment for reading a page of selected attributes, rather than whole entities, without counting
+ * every match.
+ *
+ * @see Projections
+ */
+public interface ProjectionSpecificationExecutor<T> {
+    Slice<Map<String, Object>> findProjectedSlice(
+            Specification<T> specification,
+            Collection<String> attributes,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,149 @@
+package com.github.ajharry69.pagination;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.github.ajharry69.exceptions.InvalidFieldsException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Support for the {@value #PARAMETER} parameter of list endpoints, which narrows each element to the requested
+ * fields of its response record. Only the matching entity attributes are selected (as a tuple), so the other
+ * columns are neither read nor hydrated into entities.
+ */
+public final class Projections {
+    public static final String PARAMETER = "fields";
+    /**
+     * Always selected, since every element links to itself.
+     */
+    public static final String ID = "id";
+    /**
+     * Id of the Jackson filter that response records supporting projection are annotated with.
+     */
+    public static final String FILTER = "projection";
+
+    private Projections() {
+    }
+
+    /**
+     * @param fields       requested fields; {@code null} or empty for all of them.
+     * @param responseType record whose components name both the fields and the entity attributes they map to.
+     * @return the entity attributes to select ({@link #ID} first), or {@code null} when no projection was requested.
+     * @throws InvalidFieldsException if a field is not a component of {@code responseType}.
+     */
+    public static Set<String> attributes(Collection<String> fields, Class<? extends Record> responseType) {
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+
+        var known = Arrays.stream(responseType.getRecordComponents())
+                .map(RecordComponent::getName)
+                .collect(Collectors.toSet());
+        var attributes = new LinkedHashSet<String>();
+        attributes.add(ID);
+        for (var field : fields) {
+            var attribute = field.trim();
+            if (!known.contains(attribute)) {
+                throw new InvalidFieldsException();
+            }
+            attributes.add(attribute);
+        }
+        return attributes;
+    }
+
+    /**
+     * @return filters that write every field, for responses that were not projected.
+     */
+    public static FilterProvider unprojected() {
+        return new SimpleFilterProvider().setFailOnUnknownId(false);
+    }
+
+    /**
+     * @param fields requested fields.
+     * @return filters that write only the requested fields (and {@link #ID}), whatever their value.
+     */
+    public static FilterProvider projected(Collection<String> fields) {
+        var attributes = new LinkedHashSet<String>();
+        attributes.add(ID);
+        for (var field : fields) {
+            attributes.add(field.trim());
+        }
+        return new SimpleFilterProvider()
+                .setFailOnUnknownId(false)
+                .addFilter(FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(attributes));
+    }
+
+    /**
+     * Same as {@link SpecificationSlices#find}, but selecting only {@code attributes}. Each element maps every
+     * attribute to its value.
+     */
+    public static <T> Slice<Map<String, Object>> findSlice(
+            EntityManager entityManager,
+            Class<T> domainClass,
+            Specification<T> specification,
+            Collection<String> attributes,
+            Pageable pageable
+    ) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(domainClass);
+        var predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Selection<?>> selections = new ArrayList<>(attributes.size());
+        for (var attribute : attributes) {
+            selections.add(root.get(attribute).alias(attribute));
+        }
+        query.multiselect(selections);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        var typedQuery = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(toMaps(typedQuery.getResultList(), attributes), pageable, false);
+        }
+
+        List<Tuple> rows = typedQuery
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        var hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(
+                toMaps(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, attributes),
+                pageable,
+                hasNext
+        );
+    }
+
+    private static List<Map<String, Object>> toMaps(List<Tuple> rows, Collection<String> attributes) {
+        List<Map<String, Object>> maps = new ArrayList<>(rows.size());
+        for (var row : rows) {
+            var values = HashMap.<String, Object>newHashMap(attributes.size());
+            for (var attribute : attributes) {
+                values.put(attribute, row.get(attribute));
+            }
+            maps.add(values);
+        }
+        return maps;
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.ajharry69.pagination;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Repository fragment for reading a page of entities without counting every match.
+ *
+ * @see SpecificationSlices
+ */
+public interface SliceSpecificationExecutor<T> {
+    Slice<T> findSlice(Specification<T> specification, Pageable pageable);
+}
@@ -0,0 +1,51 @@
+package com.github.ajharry69.pagination;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+public final class SpecificationSlices {
+    private SpecificationSlices() {
+    }
+
+    /**
+     * Reads one row past the requested page to tell whether another page follows, instead of counting every
+     * match. Ordering is the same as {@code JpaSpecificationExecutor#findAll(Specification, Pageable)}: the
+     * {@link Pageable}'s sort, if any, replaces the ordering applied by {@code specification}.
+     */
+    public static <T> Slice<T> find(
+            EntityManager entityManager,
+            Class<T> domainClass,
+            Specification<T> specification,
+            Pageable pageable
+    ) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(domainClass);
+        var root = query.from(domainClass);
+        var predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        var typedQuery = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+
+        List<T> rows = typedQuery
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        var hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.ajharry69.autoconfigure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingJwtDecoderTest {
+    private static final String TOKEN = "header.payload.signature";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+    private final Clock clock = mock(Clock.class);
+    private CachingJwtDecoder decoder;
+
+    private static Jwt jwt(Instant expiresAt) {
+        var builder = Jwt.withTokenValue(TOKEN)
+                .header("alg", "RS256")
+                .subject("user")
+                .issuedAt(NOW.minusSeconds(60));
+        if (expiresAt != null) {
+            builder.expiresAt(expiresAt);
+        }
+        return builder.build();
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.get(CachingJwtDecoder.CACHE_METRIC_NAME).tag("result", result).counter().count();
+    }
+
+    private long verificationCount() {
+        return meterRegistry.get(CachingJwtDecoder.VERIFICATION_METRIC_NAME).timer().count();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        decoder = new CachingJwtDecoder(delegate, 100, meterRegistry, clock);
+    }
+
+    @Test
+    void shouldReturnCachedJwt_WhenTokenWasVerified() {
+        // Given
+        var jwt = jwt(NOW.plusSeconds(60));
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+        decoder.decode(TOKEN);
+
+        // When
+        var actual = decoder.decode(TOKEN);
+
+        // Then
+        assertAll(
+                () -> assertThat(actual).isSameAs(jwt),
+                () -> verify(delegate, times(1)).decode(TOKEN),
+                () -> assertThat(cacheCount("hit")).isEqualTo(1),
+                () -> assertThat(cacheCount("miss")).isEqualTo(1),
+                () -> assertThat(verificationCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void shouldVerifyAgain_WhenCachedJwtHasExpired() {
+        // Given
+        when(delegate.decode(TOKEN)).thenReturn(jwt(NOW.plusSeconds(60)));
+        decoder.decode(TOKEN);
+        when(clock.instant()).thenReturn(NOW.plusSeconds(61));
+
+        // When
+        decoder.decode(TOKEN);
+
+        // Then
+        assertAll(
+                () -> verify(delegate, times(2)).decode(TOKEN),
+                () -> assertThat(cacheCount("hit")).isZero(),
+                () -> assertThat(cacheCount("miss")).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void shouldNotCache_WhenJwtHasNoExpiry() {
+        // Given
+        when(delegate.decode(TOKEN)).thenReturn(jwt(null));
+        decoder.decode(TOKEN);
+
+        // When
+        decoder.decode(TOKEN);
+
+        // Then
+        assertAll(
+                () -> verify(delegate, times(2)).decode(TOKEN),
+                () -> assertThat(cacheCount("hit")).isZero()
+        );
+    }
+
+    @Test
+    void shouldNotCacheButTime_WhenVerificationFails() {
+        // Given
+        when(delegate.decode(TOKEN)).thenThrow(new BadJwtException("Signed JWT rejected"));
+        assertThatThrownBy(() -> decoder.decode(TOKEN)).isInstanceOf(BadJwtException.class);
+
+        // When
+        var thrown = catchThrowable(() -> decoder.decode(TOKEN));
+
+        // Then
+        assertAll(
+                () -> assertThat(thrown).isInstanceOf(BadJwtException.class),
+                () -> verify(delegate, times(2)).decode(TOKEN),
+                () -> assertThat(cacheCount("hit")).isZero(),
+                () -> assertThat(verificationCount()).isEqualTo(2)
+        );
+    }
+}
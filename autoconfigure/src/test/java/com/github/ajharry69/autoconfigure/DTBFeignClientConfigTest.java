@@ -0,0 +1,62 @@
+package com.github.ajharry69.autoconfigure;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DTBFeignClientConfigTest {
+    private final RequestInterceptor interceptor = new DTBFeignClientConfig().requestInterceptor();
+
+    private RequestTemplate intercept() {
+        var template = new RequestTemplate().uri("/api/v1/accounts");
+        interceptor.apply(template);
+        return template;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        BearerTokenContext.AUTHORIZATION.remove();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRelayInboundToken() {
+        // Given
+        BearerTokenContext.AUTHORIZATION.set("Bearer inbound");
+
+        // When
+        var template = intercept();
+
+        // Then
+        assertThat(template.headers().get(HttpHeaders.AUTHORIZATION)).containsExactly("Bearer inbound");
+    }
+
+    @Test
+    void shouldRelayJwtAuthentication_WhenThereIsNoInboundToken() {
+        // Given
+        var jwt = Jwt.withTokenValue("listener").header("alg", "RS256").subject("service").build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+        // When
+        var template = intercept();
+
+        // Then
+        assertThat(template.headers().get(HttpHeaders.AUTHORIZATION)).containsExactly("Bearer listener");
+    }
+
+    @Test
+    void shouldNotAddAuthorization_WhenThereIsNothingToRelay() {
+        // When
+        var template = intercept();
+
+        // Then
+        assertThat(template.headers()).doesNotContainKey(HttpHeaders.AUTHORIZATION);
+    }
+}
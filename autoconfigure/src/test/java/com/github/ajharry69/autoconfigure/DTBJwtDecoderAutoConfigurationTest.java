@@ -0,0 +1,94 @@
+package com.github.ajharry69.autoconfigure;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class DTBJwtDecoderAutoConfigurationTest {
+    private static final String ISSUER_URI = "https://keycloak.example.com/realms/dt-bank";
+    private static final String JWK_SET_URI = ISSUER_URI + "/protocol/openid-connect/certs";
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    DTBJwtDecoderAutoConfiguration.class,
+                    OAuth2ResourceServerAutoConfiguration.class
+            ))
+            .withBean(SecurityFilterChain.class, () -> mock(SecurityFilterChain.class))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    void shouldReplaceBootsDecoder_WhenIssuerUriIsSet() {
+        contextRunner.withPropertyValues("spring.security.oauth2.resourceserver.jwt.issuer-uri=" + ISSUER_URI)
+                .run(context -> assertThat(context)
+                        .hasNotFailed()
+                        .hasSingleBean(JwtDecoder.class)
+                        .getBean(JwtDecoder.class)
+                        .isInstanceOf(CachingJwtDecoder.class));
+    }
+
+    @Test
+    void shouldKeepBootsDecoder_WhenOnlyJwkSetUriIsSet() {
+        contextRunner.withPropertyValues("spring.security.oauth2.resourceserver.jwt.jwk-set-uri=" + JWK_SET_URI)
+                .run(context -> assertThat(context)
+                        .hasNotFailed()
+                        .hasSingleBean(JwtDecoder.class)
+                        .getBean(JwtDecoder.class)
+                        .isNotInstanceOf(CachingJwtDecoder.class));
+    }
+
+    @Test
+    void shouldDiscoverMetadata_WhenIssuerUriEndsWithSlash() {
+        // When
+        var metadataUri = DTBJwtDecoderAutoConfiguration.metadataUri(ISSUER_URI + "/");
+
+        // Then
+        assertThat(metadataUri).hasToString(ISSUER_URI + "/.well-known/openid-configuration");
+    }
+
+    @Test
+    void shouldRejectMetadata_WhenIssuerDoesNotMatch() {
+        // Given
+        Map<String, Object> configuration = Map.of(
+                "issuer", "https://attacker.example.com/realms/dt-bank",
+                "jwks_uri", "https://attacker.example.com/certs"
+        );
+
+        // When / Then
+        assertThatThrownBy(() -> DTBJwtDecoderAutoConfiguration.jwkSetUri(ISSUER_URI, configuration))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldAcceptRs256Only_WhenJwsAlgorithmsAreNotSet() {
+        // When
+        var algorithms = DTBJwtDecoderAutoConfiguration.jwsAlgorithms(new OAuth2ResourceServerProperties().getJwt());
+
+        // Then
+        assertThat(algorithms).containsExactly(JWSAlgorithm.RS256);
+    }
+
+    @Test
+    void shouldRejectHmacAlgorithms() {
+        // Given
+        var properties = new OAuth2ResourceServerProperties().getJwt();
+        properties.setJwsAlgorithms(List.of("RS256", "HS256"));
+
+        // When / Then
+        assertThatThrownBy(() -> DTBJwtDecoderAutoConfiguration.jwsAlgorithms(properties))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
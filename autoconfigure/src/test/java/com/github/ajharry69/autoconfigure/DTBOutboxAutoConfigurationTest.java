@@ -0,0 +1,31 @@
+package com.github.ajharry69.autoconfigure;
+
+import com.github.ajharry69.outbox.Outbox;
+import com.github.ajharry69.outbox.OutboxRelay;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DTBOutboxAutoConfigurationTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DTBOutboxAutoConfiguration.class));
+
+    @Test
+    void shouldNotRegisterOutbox_WhenNotEnabled() {
+        contextRunner.run(context -> assertThat(context)
+                .hasNotFailed()
+                .doesNotHaveBean(Outbox.class)
+                .doesNotHaveBean(OutboxRelay.class));
+    }
+
+    @Test
+    void shouldNotRegisterOutbox_WhenDisabled() {
+        contextRunner.withPropertyValues("application.config.outbox.enabled=false")
+                .run(context -> assertThat(context)
+                        .hasNotFailed()
+                        .doesNotHaveBean(Outbox.class)
+                        .doesNotHaveBean(OutboxRelay.class));
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.ajharry69.autoconfigure;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DTBQueryMetricsAutoConfigurationTest {
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DTBQueryMetricsAutoConfiguration.class));
+
+    @Test
+    void shouldRegisterInstrumentation_WhenThereIsADataSource() {
+        contextRunner.withBean(DataSource.class, () -> mock(DataSource.class))
+                .run(context -> assertThat(context)
+                        .hasNotFailed()
+                        .hasSingleBean(QueryMetricsListener.class)
+                        .hasSingleBean(QueryMetricsFilter.class)
+                        .hasSingleBean(RepositoryMethodInterceptorPostProcessor.class));
+    }
+
+    @Test
+    void shouldNotRegisterInstrumentation_WhenDataSourceProxyIsDisabled() {
+        contextRunner.withBean(DataSource.class, () -> mock(DataSource.class))
+                .withPropertyValues("decorator.datasource.enabled=false")
+                .run(context -> assertThat(context)
+                        .hasNotFailed()
+                        .doesNotHaveBean(QueryMetricsListener.class)
+                        .doesNotHaveBean(QueryMetricsFilter.class)
+                        .doesNotHaveBean(RepositoryMethodInterceptorPostProcessor.class));
+    }
+
+    @Test
+    void shouldNotRegisterInstrumentation_WhenThereIsNoDataSource() {
+        contextRunner.run(context -> assertThat(context)
+                .hasNotFailed()
+                .doesNotHaveBean(QueryMetricsListener.class)
+                .doesNotHaveBean(QueryMetricsFilter.class)
+                .doesNotHaveBean(RepositoryMethodInterceptorPostProcessor.class));
+    }
+}
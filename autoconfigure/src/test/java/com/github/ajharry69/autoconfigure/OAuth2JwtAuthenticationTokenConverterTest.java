@@ -0,0 +1,143 @@
+package com.github.ajharry69.autoconfigure;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OAuth2JwtAuthenticationTokenConverterTest {
+    private final OAuth2JwtAuthenticationTokenConverter converter = new OAuth2JwtAuthenticationTokenConverter();
+
+    private static Jwt jwt(String tokenValue, Consumer<Jwt.Builder> claims) {
+        var builder = Jwt.withTokenValue(tokenValue)
+                .header("alg", "RS256")
+                .subject("user")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(300));
+        claims.accept(builder);
+        return builder.build();
+    }
+
+    private Collection<String> authorities(Jwt jwt) {
+        return converter.convert(jwt)
+                .getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+    }
+
+    @Test
+    void shouldReadScopes_WhenScopeIsAString() {
+        // Given
+        var jwt = jwt("token", claims -> claims.claim("scope", "openid  card.read"));
+
+        // When
+        var authorities = authorities(jwt);
+
+        // Then
+        assertThat(authorities).containsExactlyInAnyOrder("SCOPE_openid", "SCOPE_card.read");
+    }
+
+    @Test
+    void shouldReadScopes_WhenScopeIsAList() {
+        // Given
+        var jwt = jwt("token", claims -> claims.claim("scope", List.of("openid", "card.read")));
+
+        // When
+        var authorities = authorities(jwt);
+
+        // Then
+        assertThat(authorities).containsExactlyInAnyOrder("SCOPE_openid", "SCOPE_card.read");
+    }
+
+    @Test
+    void shouldReadScp_WhenScopeIsMissing() {
+        // Given
+        var jwt = jwt("token", claims -> claims.claim("scp", List.of("card.read")));
+
+        // When
+        var authorities = authorities(jwt);
+
+        // Then
+        assertThat(authorities).containsExactly("SCOPE_card.read");
+    }
+
+    @Test
+    void shouldReadScp_WhenScopeIsBlank() {
+        // Given
+        var jwt = jwt("token", claims -> claims.claim("scope", " ").claim("scp", "card.read"));
+
+        // When
+        var authorities = authorities(jwt);
+
+        // Then
+        assertThat(authorities).containsExactly("SCOPE_card.read");
+    }
+
+    @Test
+    void shouldUpperCaseRealmRoles() {
+        // Given
+        var jwt = jwt("token", claims -> claims.claim("realm_access", Map.of("roles", List.of("admin", "User"))));
+
+        // When
+        var authorities = authorities(jwt);
+
+        // Then
+        assertThat(authorities).containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USER");
+    }
+
+    @Test
+    void shouldReuseAuthorities_WhenTokenHasTheSameJti() {
+        // Given
+        authorities(jwt("first", claims -> claims.jti("id").claim("scope", "card.read")));
+
+        // When
+        var authorities = authorities(jwt("second", claims -> claims.jti("id").claim("scope", "card.create")));
+
+        // Then
+        assertThat(authorities).containsExactly("SCOPE_card.read");
+    }
+
+    @Test
+    void shouldKeyByTokenValue_WhenTokenHasNoJti() {
+        // Given
+        authorities(jwt("first", claims -> claims.claim("scope", "card.read")));
+
+        // When
+        var sameToken = authorities(jwt("first", claims -> claims.claim("scope", "card.create")));
+        var otherToken = authorities(jwt("second", claims -> claims.claim("scope", "card.create")));
+
+        // Then
+        assertThat(sameToken).containsExactly("SCOPE_card.read");
+        assertThat(otherToken).containsExactly("SCOPE_card.create");
+    }
+
+    @Test
+    void shouldNotCache_WhenTokenHasNoExpiry() {
+        // Given
+        var first = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user")
+                .claim("scope", "card.read")
+                .build();
+        var second = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user")
+                .claim("scope", "card.create")
+                .build();
+        authorities(first);
+
+        // When
+        var authorities = authorities(second);
+
+        // Then
+        assertThat(authorities).containsExactly("SCOPE_card.create");
+    }
+}
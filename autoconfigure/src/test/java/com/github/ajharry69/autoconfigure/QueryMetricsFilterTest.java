@@ -0,0 +1,122 @@
+package com.github.ajharry69.autoconfigure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ExtendWith(OutputCaptureExtension.class)
+class QueryMetricsFilterTest {
+    private static final String ROUTE = "/api/v1/customers/{customerId}/accounts";
+    private static final String SQL = "select a1_0.id from accounts a1_0 where a1_0.customer_id=?";
+    private static final int N_PLUS_ONE_THRESHOLD = 3;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryMetricsListener listener = new QueryMetricsListener(meterRegistry, Duration.ofSeconds(1));
+    private final QueryMetricsFilter filter = new QueryMetricsFilter(meterRegistry, N_PLUS_ONE_THRESHOLD);
+
+    /**
+     * @return a chain that maps the request to {@link #ROUTE} and then runs {@code sql}, one statement each.
+     */
+    private FilterChain chain(String... sql) {
+        return (request, _) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE);
+            for (var statement : sql) {
+                var executionInfo = new ExecutionInfo();
+                executionInfo.setSuccess(true);
+                listener.afterQuery(executionInfo, List.of(new QueryInfo(statement)));
+            }
+        };
+    }
+
+    private void perform(FilterChain chain) throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/v1/customers/1/accounts");
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+
+    @Nested
+    class StatementsPerRequest {
+        @Test
+        void shouldRecordNumberOfStatementsIssuedByRequest() throws Exception {
+            // Given
+            var chain = chain("select 1", "select 2");
+
+            // When
+            perform(chain);
+
+            // Then
+            var summary = meterRegistry.find(QueryMetricsFilter.STATEMENTS_METRIC_NAME)
+                    .tag("route", ROUTE)
+                    .tag("method", "GET")
+                    .summary();
+            assertAll(
+                    () -> assertThat(summary)
+                            .isNotNull(),
+                    () -> assertThat(summary.count())
+                            .isEqualTo(1),
+                    () -> assertThat(summary.totalAmount())
+                            .isEqualTo(2),
+                    () -> assertThat(RequestQueryStatistics.current())
+                            .isNull()
+            );
+        }
+    }
+
+    @Nested
+    class NPlusOne {
+        @Test
+        void shouldReportStatement_WhenRepeatedAtLeastThresholdTimes(CapturedOutput output) throws Exception {
+            // Given
+            var chain = chain(SQL, SQL, SQL);
+
+            // When
+            perform(chain);
+
+            // Then
+            var counter = meterRegistry.find(QueryMetricsFilter.REPEATED_METRIC_NAME)
+                    .tag("route", ROUTE)
+                    .tag("repository", QueryMetricsListener.NONE)
+                    .counter();
+            assertAll(
+                    () -> assertThat(counter)
+                            .isNotNull(),
+                    () -> assertThat(counter.count())
+                            .isEqualTo(1),
+                    () -> assertThat(output)
+                            .contains("Likely N+1 on GET " + ROUTE)
+                            .contains("executed 3 times: " + SQL)
+            );
+        }
+
+        @Test
+        void shouldNotReportStatement_WhenRepeatedFewerThanThresholdTimes(CapturedOutput output) throws Exception {
+            // Given
+            var chain = chain(SQL, SQL, "select 1");
+
+            // When
+            perform(chain);
+
+            // Then
+            assertAll(
+                    () -> assertThat(meterRegistry.find(QueryMetricsFilter.REPEATED_METRIC_NAME).counter())
+                            .isNull(),
+                    () -> assertThat(output)
+                            .doesNotContain("Likely N+1")
+            );
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.ajharry69.autoconfigure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(OutputCaptureExtension.class)
+class QueryMetricsListenerTest {
+    private static final String ROUTE = "/api/v1/cards/{cardId}";
+    private static final String SQL = "select c1_0.id from cards c1_0 where c1_0.id=?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryMetricsListener listener = new QueryMetricsListener(meterRegistry, Duration.ofMillis(100));
+
+    private static ExecutionInfo executionInfo(long elapsedTime) {
+        var executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedTime);
+        executionInfo.setSuccess(true);
+        return executionInfo;
+    }
+
+    private static MockHttpServletRequest request() {
+        var request = new MockHttpServletRequest("GET", "/api/v1/cards/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE);
+        return request;
+    }
+
+    /**
+     * Runs {@code statement} as if it were issued by {@code CardRepository.findById}.
+     */
+    private static void inRepositoryMethod(Runnable statement) throws Throwable {
+        var invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(CardRepository.class.getMethod("findById", Object.class));
+        when(invocation.proceed()).thenAnswer(_ -> {
+            statement.run();
+            return null;
+        });
+        new RepositoryMethodInterceptor(CardRepository.class).invoke(invocation);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestQueryStatistics.stop();
+    }
+
+    @Nested
+    class Statements {
+        @Test
+        void shouldTagStatementsWithRouteAndRepositoryMethod() throws Throwable {
+            // Given
+            var statistics = RequestQueryStatistics.start(request());
+
+            // When
+            inRepositoryMethod(() -> listener.afterQuery(executionInfo(5), List.of(new QueryInfo(SQL))));
+
+            // Then
+            var timer = meterRegistry.find(QueryMetricsListener.METRIC_NAME)
+                    .tag("type", "select")
+                    .tag("route", ROUTE)
+                    .tag("repository", "CardRepository.findById")
+                    .tag("outcome", "success")
+                    .timer();
+            assertAll(
+                    () -> assertThat(timer)
+                            .isNotNull()
+                            .satisfies(t -> assertThat(t.count()).isEqualTo(1)),
+                    () -> assertThat(statistics.total())
+                            .isEqualTo(1)
+            );
+        }
+
+        @Test
+        void shouldTagStatementsWithNone_OutsideOfRequestAndRepositoryMethod() {
+            // Given
+            // When
+            listener.afterQuery(executionInfo(5), List.of(new QueryInfo(SQL)));
+
+            // Then
+            assertThat(
+                    meterRegistry.find(QueryMetricsListener.METRIC_NAME)
+                            .tag("route", QueryMetricsListener.NONE)
+                            .tag("repository", QueryMetricsListener.NONE)
+                            .timer()
+            ).isNotNull();
+        }
+    }
+
+    @Nested
+    class SlowQueries {
+        @Test
+        void shouldLogStatement_WhenItTakesAtLeastTheThreshold(CapturedOutput output) throws Throwable {
+            // Given
+            RequestQueryStatistics.start(request());
+
+            // When
+            inRepositoryMethod(() -> listener.afterQuery(executionInfo(100), List.of(new QueryInfo(SQL))));
+
+            // Then
+            assertThat(output)
+                    .contains("Slow query (100 ms) on route " + ROUTE + " from CardRepository.findById: " + SQL);
+        }
+
+        @Test
+        void shouldNotLogStatement_WhenItIsFasterThanTheThreshold(CapturedOutput output) {
+            // Given
+            // When
+            listener.afterQuery(executionInfo(99), List.of(new QueryInfo(SQL)));
+
+            // Then
+            assertThat(output)
+                    .doesNotContain("Slow query");
+        }
+    }
+
+    interface CardRepository {
+        Object findById(Object id);
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.ajharry69.hateoas;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.http.HttpEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class LinkTemplateTest {
+    private static void bindRequest(String serverName) {
+        var request = new MockHttpServletRequest("GET", "/api/v1/things");
+        request.setServerName(serverName);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static String linkToThing(UUID id) {
+        return linkTo(methodOn(ThingController.class).getThing(id)).withSelfRel().getHref();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldBuildSameLinksAsLinkTo_WhenBaseUriDiffersFromTheOneItWasSplitAgainst() {
+        // Given
+        var template = LinkTemplate.of(id -> linkTo(methodOn(ThingController.class).getThing(id)));
+        bindRequest("localhost");
+        template.toLink(UUID.randomUUID(), IanaLinkRelations.SELF);
+        RequestContextHolder.resetRequestAttributes();
+        bindRequest("things.dt-bank.test");
+        var id = UUID.randomUUID();
+
+        // When
+        var link = template.toLink(id, IanaLinkRelations.SELF);
+
+        // Then
+        assertAll(
+                () -> assertThat(link.getHref()).startsWith("http://things.dt-bank.test/"),
+                () -> assertThat(link.getHref()).isEqualTo(linkToThing(id))
+        );
+    }
+
+    @Test
+    void shouldUseLinkTo_WhenThereIsNoRequest() {
+        // Given
+        var template = LinkTemplate.of(id -> linkTo(methodOn(ThingController.class).getThing(id)));
+        var id = UUID.randomUUID();
+
+        // When
+        var link = template.toLink(id, IanaLinkRelations.SELF);
+
+        // Then
+        assertThat(link.getHref()).isEqualTo(linkToThing(id));
+    }
+
+    @Test
+    void shouldUseLinkTo_WhenLinkCannotBeSplitAroundTheId() {
+        // Given: the id appears twice, so there is no single place to put it.
+        var template = LinkTemplate.of(id -> linkTo(methodOn(ThingController.class).getCopy(id, id)));
+        bindRequest("localhost");
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+
+        // When
+        var firstLink = template.toLink(first, IanaLinkRelations.SELF);
+        var secondLink = template.toLink(second, IanaLinkRelations.SELF);
+
+        // Then
+        assertAll(
+                () -> assertThat(firstLink.getHref())
+                        .isEqualTo(linkTo(methodOn(ThingController.class).getCopy(first, first)).toUri().toString()),
+                () -> assertThat(secondLink.getHref())
+                        .isEqualTo(linkTo(methodOn(ThingController.class).getCopy(second, second)).toUri().toString())
+        );
+    }
+
+    @RequestMapping("/api/v1/things")
+    public static class ThingController {
+        @GetMapping("/{thingId}")
+        public HttpEntity<Void> getThing(@PathVariable UUID thingId) {
+            return null;
+        }
+
+        @GetMapping("/{thingId}/copies/{copyId}")
+        public HttpEntity<Void> getCopy(@PathVariable UUID thingId, @PathVariable UUID copyId) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.ajharry69.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static OutboxEvent outboxEvent() {
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .exchange("exchange")
+                .routingKey("routing.key")
+                .type("Event")
+                .payload("{}")
+                .dateCreated(OffsetDateTime.now())
+                .build();
+    }
+
+    private OutboxRelay relay(int batchSize, Set<String> rejectedIds) {
+        var connectionFactory = mock(ConnectionFactory.class);
+        when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture()
+                    .complete(new CorrelationData.Confirm(!rejectedIds.contains(correlation.getId()), null));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        return new OutboxRelay(
+                repository,
+                rabbitTemplate,
+                transactionTemplate,
+                meterRegistry,
+                batchSize,
+                Duration.ofSeconds(1)
+        );
+    }
+
+    @BeforeEach
+    public void setUp() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Nested
+    class Relay {
+        @Test
+        void shouldDeleteOnlyConfirmedEvents() {
+            // Given
+            var confirmed = outboxEvent();
+            var rejected = outboxEvent();
+            when(repository.findNextBatchForUpdate(anyInt()))
+                    .thenReturn(List.of(confirmed, rejected));
+            var relay = relay(10, Set.of(rejected.getId().toString()));
+
+            // When
+            relay.relay();
+
+            // Then
+            assertAll(
+                    () -> verify(rabbitTemplate, times(2))
+                            .send(eq("exchange"), eq("routing.key"), any(Message.class), any(CorrelationData.class)),
+                    () -> verify(repository, times(1))
+                            .deleteAllByIdInBatch(List.of(confirmed.getId())),
+                    () -> assertThat(meterRegistry.counter("outbox.events.published").count())
+                            .isEqualTo(1),
+                    () -> assertThat(meterRegistry.counter("outbox.events.failed").count())
+                            .isEqualTo(1)
+            );
+        }
+
+        @Test
+        void shouldKeepDraining_WhileBatchesAreFull() {
+            // Given
+            when(repository.findNextBatchForUpdate(1))
+                    .thenReturn(List.of(outboxEvent()))
+                    .thenReturn(List.of(outboxEvent()))
+                    .thenReturn(Collections.emptyList());
+            var relay = relay(1, Set.of());
+
+            // When
+            relay.relay();
+
+            // Then
+            assertAll(
+                    () -> verify(repository, times(3))
+                            .findNextBatchForUpdate(1),
+                    () -> verify(transactionTemplate, times(3))
+                            .execute(any()),
+                    () -> assertThat(meterRegistry.counter("outbox.events.published").count())
+                            .isEqualTo(2)
+            );
+        }
+
+        @Test
+        void shouldNotPublish_WhenOutboxIsEmpty() {
+            // Given
+            when(repository.findNextBatchForUpdate(anyInt()))
+                    .thenReturn(Collections.emptyList());
+            var relay = relay(10, Set.of());
+
+            // When
+            relay.relay();
+
+            // Then
+            assertAll(
+                    () -> verify(rabbitTemplate, never())
+                            .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class)),
+                    () -> verify(repository, never())
+                            .deleteAllByIdInBatch(any())
+            );
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.ajharry69.pagination;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectionResponseBodyAdviceTest {
+    private static final Person PERSON = new Person(
+            UUID.fromString("6f1c3a52-0d1e-4b8a-9a53-2a1f3c4d5e6f"),
+            "John",
+            null
+    );
+
+    private final MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter(
+            new ObjectMapper().setFilterProvider(Projections.unprojected())
+    );
+    private final ProjectionResponseBodyAdvice advice = new ProjectionResponseBodyAdvice();
+
+    private String write(String handler, MockHttpServletRequest request) throws Exception {
+        var method = Handlers.class.getDeclaredMethod(handler, Set.class);
+        var returnType = new MethodParameter(method, -1);
+        Object body = PERSON;
+        if (advice.supports(returnType, MappingJackson2HttpMessageConverter.class)) {
+            body = advice.beforeBodyWrite(
+                    body,
+                    returnType,
+                    MediaType.APPLICATION_JSON,
+                    MappingJackson2HttpMessageConverter.class,
+                    new ServletServerHttpRequest(request),
+                    new ServletServerHttpResponse(new MockHttpServletResponse())
+            );
+        }
+
+        var outputMessage = new MockHttpOutputMessage();
+        converter.write(body, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.getBodyAsString();
+    }
+
+    @Test
+    void shouldWriteRequestedFieldsOnly_WhenFieldsAreGiven() throws Exception {
+        // Given
+        var request = new MockHttpServletRequest("GET", "/people");
+        request.addParameter(Projections.PARAMETER, "firstName");
+
+        // When
+        var json = write("list", request);
+
+        // Then
+        assertThat(json).isEqualTo("{\"id\":\"" + PERSON.id() + "\",\"firstName\":\"John\"}");
+    }
+
+    @Test
+    void shouldKeepRequestedNullFields_WhenFieldsAreGiven() throws Exception {
+        // Given
+        var request = new MockHttpServletRequest("GET", "/people");
+        request.addParameter(Projections.PARAMETER, "otherName");
+
+        // When
+        var json = write("list", request);
+
+        // Then
+        assertThat(json).isEqualTo("{\"id\":\"" + PERSON.id() + "\",\"otherName\":null}");
+    }
+
+    @Test
+    void shouldWriteAllFields_WhenFieldsAreNotGiven() throws Exception {
+        // Given
+        var request = new MockHttpServletRequest("GET", "/people");
+
+        // When
+        var json = write("list", request);
+
+        // Then
+        assertThat(json).isEqualTo("{\"id\":\"" + PERSON.id() + "\",\"firstName\":\"John\",\"otherName\":null}");
+    }
+
+    @Test
+    void shouldWriteAllFields_WhenHandlerDoesNotAcceptFields() throws Exception {
+        // Given
+        var request = new MockHttpServletRequest("GET", "/people/1");
+        request.addParameter(Projections.PARAMETER, "firstName");
+
+        // When
+        var json = write("get", request);
+
+        // Then
+        assertThat(json).isEqualTo("{\"id\":\"" + PERSON.id() + "\",\"firstName\":\"John\",\"otherName\":null}");
+    }
+
+    @JsonFilter(Projections.FILTER)
+    record Person(UUID id, String firstName, String otherName) {
+    }
+
+    @SuppressWarnings("unused")
+    static class Handlers {
+        Person list(@RequestParam(name = Projections.PARAMETER, required = false) Set<String> fields) {
+            return PERSON;
+        }
+
+        Person get(Set<String> tags) {
+            return PERSON;
+        }
+    }
+}
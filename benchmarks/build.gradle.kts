@@ -0,0 +1,41 @@
+import org.springframework.boot.gradle.tasks.bundling.BootBuildImage
+import org.springframework.boot.gradle.tasks.bundling.BootJar
+
+plugins {
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.cloud:spring-cloud-dependencies:${property("springCloudVersion")}")
+    }
+}
+
+dependencies {
+    jmh(project(":autoconfigure"))
+    jmh(project(":account-service"))
+    jmh(project(":card-service"))
+    jmh(project(":customer-service"))
+    jmh("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
+    // MockHttpServletRequest, so that links are built against a request as they are when serving one.
+    jmh("org.springframework:spring-test")
+}
+
+jmh {
+    // Profile allocations alongside time, since most of the hot paths are allocation-bound.
+    profilers = listOf("gc")
+    // Machine-readable results, named after the version under test so that runs of different versions can be
+    // compared side by side (e.g. with JMH Visualizer).
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results-${project.version}.json")
+    // Run a subset with e.g. ./gradlew :benchmarks:jmh -PjmhIncludes=CardMapper
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
+}
+
+tasks.withType<BootJar> {
+    enabled = false
+}
+
+tasks.withType<BootBuildImage> {
+    enabled = false
+}
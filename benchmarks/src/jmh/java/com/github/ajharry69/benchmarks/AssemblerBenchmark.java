@@ -0,0 +1,77 @@
+package com.github.ajharry69.benchmarks;
+
+import com.github.ajharry69.account.service.account.AccountAssembler;
+import com.github.ajharry69.account.service.account.AccountController;
+import com.github.ajharry69.account.service.account.models.dtos.AccountResponse;
+import com.github.ajharry69.account.service.card.data.CardFilter;
+import com.github.ajharry69.card.service.card.CardAssembler;
+import com.github.ajharry69.card.service.card.CardController;
+import com.github.ajharry69.card.service.card.models.dtos.CardResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.EntityModel;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Cost of wrapping one response in an {@link EntityModel} with its links, which list endpoints pay per element: the
+ * assemblers, which expand cached link templates, against building the same links with {@code linkTo(methodOn(...))}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssemblerBenchmark {
+    private final CardAssembler cardAssembler = new CardAssembler();
+    private final AccountAssembler accountAssembler = new AccountAssembler();
+    private CardResponse card;
+    private AccountResponse account;
+
+    @Setup
+    public void setUp() {
+        BenchmarkRequests.bind("/api/v1/cards");
+        card = BenchmarkCards.responses(1).getFirst();
+        account = AccountResponse.builder()
+                .id(UUID.randomUUID())
+                .iban("GB82WEST12345698765432")
+                .bicSwift("DEUTDEFF")
+                .customerId(UUID.randomUUID())
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkRequests.reset();
+    }
+
+    @Benchmark
+    public EntityModel<CardResponse> cardToModel() {
+        return cardAssembler.toModel(card);
+    }
+
+    @Benchmark
+    public EntityModel<AccountResponse> accountToModel() {
+        return accountAssembler.toModel(account);
+    }
+
+    @Benchmark
+    public EntityModel<CardResponse> cardToModelWithLinkTo() {
+        return EntityModel.of(card)
+                .add(linkTo(methodOn(CardController.class).getCard(card.id(), false)).withSelfRel());
+    }
+
+    @Benchmark
+    public EntityModel<AccountResponse> accountToModelWithLinkTo() {
+        return EntityModel.of(account)
+                .add(linkTo(methodOn(AccountController.class).getAccount(account.id())).withSelfRel())
+                .add(linkTo(
+                        methodOn(com.github.ajharry69.account.service.card.CardController.class)
+                                .getCards(account.id(), CardFilter.builder().build(), null)
+                ).withRel("cards"));
+    }
+}
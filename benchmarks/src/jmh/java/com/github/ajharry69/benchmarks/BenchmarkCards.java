@@ -0,0 +1,43 @@
+package com.github.ajharry69.benchmarks;
+
+import com.github.ajharry69.card.service.card.models.Card;
+import com.github.ajharry69.card.service.card.models.CardType;
+import com.github.ajharry69.card.service.card.models.dtos.CardResponse;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Representative cards shared by the benchmarks.
+ */
+final class BenchmarkCards {
+    private BenchmarkCards() {
+    }
+
+    static Card card() {
+        return Card.builder()
+                .id(UUID.randomUUID())
+                .alias("John Doe's travel card")
+                .pan("4539578763621486")
+                .cvv("123")
+                .type(CardType.VIRTUAL)
+                .accountId(UUID.randomUUID())
+                .dateCreated(OffsetDateTime.now())
+                .build();
+    }
+
+    static List<CardResponse> responses(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> CardResponse.builder()
+                        .id(UUID.randomUUID())
+                        .alias("Card " + i)
+                        .pan("*************")
+                        .cvv("***")
+                        .type(i % 2 == 0 ? CardType.VIRTUAL : CardType.PHYSICAL)
+                        .accountId(UUID.randomUUID())
+                        .build())
+                .toList();
+    }
+}
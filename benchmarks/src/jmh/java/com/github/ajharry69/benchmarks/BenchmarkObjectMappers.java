@@ -0,0 +1,32 @@
+package com.github.ajharry69.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ajharry69.pagination.Projections;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+
+/**
+ * Object mappers configured like the services' for the media types they produce.
+ */
+final class BenchmarkObjectMappers {
+    private BenchmarkObjectMappers() {
+    }
+
+    static ObjectMapper json() {
+        return new ObjectMapper()
+                .findAndRegisterModules()
+                .setFilterProvider(Projections.unprojected());
+    }
+
+    static ObjectMapper hal() {
+        return json()
+                .registerModule(new Jackson2HalModule())
+                .setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                        new DefaultLinkRelationProvider(),
+                        CurieProvider.NONE,
+                        MessageResolver.DEFAULTS_ONLY
+                ));
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.ajharry69.benchmarks;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Binds a request to the calling thread, so that HATEOAS links are built from it the way they are while a
+ * controller serves one.
+ */
+final class BenchmarkRequests {
+    private BenchmarkRequests() {
+    }
+
+    static void bind(String path) {
+        var request = new MockHttpServletRequest("GET", path);
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    static void reset() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.ajharry69.benchmarks;
+
+import com.github.ajharry69.card.service.card.models.Card;
+import com.github.ajharry69.card.service.card.models.CardMapper;
+import com.github.ajharry69.card.service.card.models.dtos.CardResponse;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the MapStruct-generated entity-to-response mapping applied to every card card-service returns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardMapperBenchmark {
+    private final CardMapper mapper = Mappers.getMapper(CardMapper.class);
+    private Card card;
+
+    @Setup
+    public void setUp() {
+        card = BenchmarkCards.card();
+    }
+
+    @Benchmark
+    public CardResponse toResponse() {
+        return mapper.toResponse(card);
+    }
+
+    @Benchmark
+    public CardResponse toUnmaskedResponse() {
+        return mapper.toUnmaskedResponse(card);
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.ajharry69.benchmarks;
+
+import com.github.ajharry69.autoconfigure.OAuth2JwtAuthenticationTokenConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Per-request cost of turning a verified Keycloak access token into a {@link JwtAuthenticationToken}: the cached,
+ * interning {@link OAuth2JwtAuthenticationTokenConverter} against the stream-based conversion it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationConversionBenchmark {
+    private final OAuth2JwtAuthenticationTokenConverter converter = new OAuth2JwtAuthenticationTokenConverter();
+    private final JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() {
+        var now = Instant.now();
+        jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .jti(UUID.randomUUID().toString())
+                .subject(UUID.randomUUID().toString())
+                .issuer("http://localhost:8180/realms/dt-bank")
+                .issuedAt(now)
+                .expiresAt(now.plus(1, ChronoUnit.HOURS))
+                .claim(
+                        "scope",
+                        "openid profile email customer.read customer.create account.read account.create card.read card.create"
+                )
+                .claim(
+                        "realm_access",
+                        Map.of("roles", List.of("offline_access", "uma_authorization", "default-roles-dt-bank", "admin"))
+                )
+                .build();
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken cached() {
+        return converter.convert(jwt);
+    }
+
+    /**
+     * The conversion as it was before authorities were cached and interned.
+     */
+    @Benchmark
+    public AbstractAuthenticationToken baseline() {
+        Collection<GrantedAuthority> scopeAuthorities = jwtGrantedAuthoritiesConverter.convert(jwt);
+        Collection<GrantedAuthority> roleAuthorities;
+        var realmAccess = jwt.getClaimAsMap("realm_access");
+        if (realmAccess != null && realmAccess.get("roles") instanceof Collection<?> roles) {
+            roleAuthorities = roles.stream()
+                    .filter(String.class::isInstance)
+                    .map(String.class::cast)
+                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
+                    .collect(Collectors.toSet());
+        } else {
+            roleAuthorities = Collections.emptySet();
+        }
+
+        Collection<GrantedAuthority> authorities = Stream.concat(
+                scopeAuthorities.stream(),
+                roleAuthorities.stream()
+        ).collect(Collectors.toSet());
+        return new JwtAuthenticationToken(jwt, authorities, jwt.getSubject());
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.ajharry69.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ajharry69.card.service.card.CardAssembler;
+import com.github.ajharry69.card.service.card.models.dtos.CardResponse;
+import com.github.ajharry69.pagination.LeanPage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering {@code GET /api/v1/cards} with 1000 cards once they are loaded: building the representation and
+ * writing it, in HAL (a link per card) against the lean media type (page-level links only).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListRepresentationBenchmark {
+    private static final int SIZE = 1000;
+    private static final String SELF = "http://localhost:8080/api/v1/cards?page=0&size=" + SIZE;
+    private static final String NEXT = "http://localhost:8080/api/v1/cards?page=1&size=" + SIZE;
+
+    private final ObjectMapper halObjectMapper = BenchmarkObjectMappers.hal();
+    private final ObjectMapper objectMapper = BenchmarkObjectMappers.json();
+    private final CardAssembler assembler = new CardAssembler();
+    private final PagedModel.PageMetadata metadata = new PagedModel.PageMetadata(SIZE, 0, SIZE * 10L);
+    private List<CardResponse> cards;
+
+    @Setup
+    public void setUp() {
+        BenchmarkRequests.bind("/api/v1/cards");
+        cards = BenchmarkCards.responses(SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkRequests.reset();
+    }
+
+    @Benchmark
+    public byte[] hal() throws JsonProcessingException {
+        var page = PagedModel.of(cards.stream().map(assembler::toModel).toList(), metadata)
+                .add(Link.of(SELF))
+                .add(Link.of(NEXT, IanaLinkRelations.NEXT));
+        return halObjectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] lean() throws JsonProcessingException {
+        var page = new LeanPage<>(cards, metadata, Map.of("self", SELF, "next", NEXT));
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.ajharry69.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ajharry69.card.service.card.CardAssembler;
+import com.github.ajharry69.card.service.card.models.dtos.CardResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing a page of cards as HAL, as {@code GET /api/v1/cards} does once its models are built.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagedModelSerializationBenchmark {
+    private final ObjectMapper objectMapper = BenchmarkObjectMappers.hal();
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private PagedModel<EntityModel<CardResponse>> page;
+
+    @Setup
+    public void setUp() {
+        BenchmarkRequests.bind("/api/v1/cards");
+        try {
+            var assembler = new CardAssembler();
+            var models = BenchmarkCards.responses(size).stream().map(assembler::toModel).toList();
+            page = PagedModel.of(
+                    models,
+                    new PagedModel.PageMetadata(size, 0, size * 10L),
+                    Link.of("http://localhost:8080/api/v1/cards?page=0&size=" + size),
+                    Link.of("http://localhost:8080/api/v1/cards?page=1&size=" + size, IanaLinkRelations.NEXT)
+            );
+        } finally {
+            BenchmarkRequests.reset();
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
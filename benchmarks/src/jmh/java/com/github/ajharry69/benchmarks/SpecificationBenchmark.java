@@ -0,0 +1,106 @@
+package com.github.ajharry69.benchmarks;
+
+import com.github.ajharry69.card.service.card.data.CardFilter;
+import com.github.ajharry69.card.service.card.data.CardSpecification;
+import com.github.ajharry69.card.service.card.models.Card;
+import com.github.ajharry69.card.service.card.models.CardType;
+import com.github.ajharry69.customer.service.customer.data.CustomerFilter;
+import com.github.ajharry69.customer.service.customer.data.CustomerSpecification;
+import com.github.ajharry69.customer.service.customer.models.Customer;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning list filters into criteria predicates, as Spring Data does for every list request: creating the
+ * query and its root, then applying the specification.
+ * <p>
+ * Hibernate is bootstrapped from the entity mappings alone, without a database connection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationBenchmark {
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+    private CardSpecification cardsByAccount;
+    private CardSpecification cardsByAlias;
+    private CustomerSpecification customersByName;
+    private CustomerSpecification customersByDateCreated;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Card.class)
+                .addAnnotatedClass(Customer.class)
+                .setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
+                .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .setProperty("hibernate.hbm2ddl.auto", "none")
+                .buildSessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+
+        cardsByAccount = new CardSpecification(
+                CardFilter.builder()
+                        .accountId(UUID.randomUUID())
+                        .type(CardType.VIRTUAL)
+                        .build()
+        );
+        cardsByAlias = new CardSpecification(
+                CardFilter.builder()
+                        .alias("travel card")
+                        .startDateCreated(LocalDate.now().minusYears(1))
+                        .build()
+        );
+        customersByName = new CustomerSpecification(CustomerFilter.builder().name("John Doe").build());
+        customersByDateCreated = new CustomerSpecification(
+                CustomerFilter.builder()
+                        .startDateCreated(LocalDate.now().minusYears(1))
+                        .endDateCreated(LocalDate.now())
+                        .build()
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    private Predicate cards(CardSpecification specification) {
+        var query = cb.createQuery(Card.class);
+        return specification.toPredicate(query.from(Card.class), query, cb);
+    }
+
+    private Predicate customers(CustomerSpecification specification) {
+        var query = cb.createQuery(Customer.class);
+        return specification.toPredicate(query.from(Customer.class), query, cb);
+    }
+
+    @Benchmark
+    public Predicate cardsByAccount() {
+        return cards(cardsByAccount);
+    }
+
+    @Benchmark
+    public Predicate cardsByAlias() {
+        return cards(cardsByAlias);
+    }
+
+    @Benchmark
+    public Predicate customersByName() {
+        return customers(customersByName);
+    }
+
+    @Benchmark
+    public Predicate customersByDateCreated() {
+        return customers(customersByDateCreated);
+    }
+}
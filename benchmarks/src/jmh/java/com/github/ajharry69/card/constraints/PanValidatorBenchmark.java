@@ -0,0 +1,27 @@
+package com.github.ajharry69.card.constraints;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating a PAN, which runs for every card created or updated. Lives in {@link PanValidator}'s package,
+ * as the validator is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PanValidatorBenchmark {
+    private final PanValidator validator = new PanValidator();
+
+    @Param({"4539578763621486", "4539-5787-6362-1486", "4539A78763621486"})
+    private String pan;
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(pan, null);
+    }
+}
@@ -14,6 +14,7 @@ extra["springDocVersion"] = "2.7.0"
 extra["keycloakVersion"] = "3.7.0"
 extra["restAssuredVersion"] = "5.3.2"
 extra["datafakerVersion"] = "2.4.3"
+extra["datasourceProxyVersion"] = "1.11.0"
 
 allprojects {
     group = "com.github.ajharry69"
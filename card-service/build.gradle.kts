@@ -15,6 +15,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-hateoas")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("io.micrometer:micrometer-tracing-bridge-brave")
     implementation("io.zipkin.reporter2:zipkin-reporter-brave")
     implementation("org.flywaydb:flyway-core")
@@ -52,5 +53,6 @@ dependencies {
     testImplementation("org.testcontainers:rabbitmq")
     testImplementation("io.rest-assured:rest-assured:${property("restAssuredVersion")}")
     testImplementation("net.datafaker:datafaker:${property("datafakerVersion")}")
+    testImplementation("com.github.gavlyukovskiy:datasource-proxy-spring-boot-starter:${property("datasourceProxyVersion")}")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
@@ -0,0 +1,130 @@
+package com.github.ajharry69.card.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ajharry69.card.service.card.models.dtos.CardResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Caches card lookups in a bounded, replica-local Caffeine cache. When Redis is enabled, the local cache is fronted
+ * onto a shared Redis cache and evictions are broadcast over Redis pub/sub so that every replica drops its local copy.
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+class CacheConfig {
+    static final String EVICTION_CHANNEL = "card-service:cache-evictions";
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+    private static final String SEPARATOR = "|";
+    private static final String CLEAR_ALL = "*";
+
+    private static CaffeineCache localCache(MeterRegistry meterRegistry, long maximumSize, Duration timeToLive) {
+        var cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CacheNames.CARDS + ".local");
+        return new CaffeineCache(CacheNames.CARDS, cache, false);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.config.redis.enabled", havingValue = "true")
+    TieredCache cardsCache(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${application.config.cache.cards.local.maximum-size:10000}") long localMaximumSize,
+            @Value("${application.config.cache.cards.local.time-to-live:PT1M}") Duration localTimeToLive,
+            @Value("${application.config.cache.cards.time-to-live:PT10M}") Duration timeToLive
+    ) {
+        var serializer = new Jackson2JsonRedisSerializer<>(objectMapper, CardResponse.class);
+        var remoteCacheManager = RedisCacheManager.builder(connectionFactory)
+                .withCacheConfiguration(
+                        CacheNames.CARDS,
+                        RedisCacheConfiguration.defaultCacheConfig()
+                                .entryTtl(timeToLive)
+                                .disableCachingNullValues()
+                                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
+                )
+                .build();
+        remoteCacheManager.afterPropertiesSet();
+
+        return new TieredCache(
+                localCache(meterRegistry, localMaximumSize, localTimeToLive),
+                remoteCacheManager.getCache(CacheNames.CARDS),
+                key -> redisTemplate.convertAndSend(
+                        EVICTION_CHANNEL,
+                        String.join(SEPARATOR, INSTANCE_ID, CacheNames.CARDS, key == null ? CLEAR_ALL : key.toString())
+                )
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.config.redis.enabled", havingValue = "true")
+    RedisMessageListenerContainer cacheEvictionListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TieredCache cardsCache
+    ) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, _) -> {
+                    var parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 3);
+                    if (parts.length != 3 || INSTANCE_ID.equals(parts[0]) || !cardsCache.getName().equals(parts[1])) {
+                        return;
+                    }
+
+                    log.debug("Evicting '{}' from local cache '{}' on behalf of replica {}", parts[2], parts[1], parts[0]);
+                    cardsCache.evictLocal(CLEAR_ALL.equals(parts[2]) ? null : parts[2]);
+                },
+                new ChannelTopic(EVICTION_CHANNEL)
+        );
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.config.redis.enabled", havingValue = "false", matchIfMissing = true)
+    CaffeineCache cardsLocalCache(
+            MeterRegistry meterRegistry,
+            @Value("${application.config.cache.cards.local.maximum-size:10000}") long localMaximumSize,
+            @Value("${application.config.cache.cards.local.time-to-live:PT1M}") Duration localTimeToLive
+    ) {
+        return localCache(meterRegistry, localMaximumSize, localTimeToLive);
+    }
+
+    @Bean
+    CacheManager cacheManager(List<Cache> caches) {
+        var cacheManager = new SimpleCacheManager();
+        // Defer evictions issued from within a transaction until it commits, so a concurrent read cannot
+        // re-populate the cache with the pre-commit row.
+        cacheManager.setCaches(caches.stream().<Cache>map(TransactionAwareCacheDecorator::new).toList());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.ajharry69.card.cache;
+
+public final class CacheNames {
+    /**
+     * {@link com.github.ajharry69.card.service.card.models.dtos.CardResponse}s keyed by {@code <cardId>:<unmask>} so
+     * that masked and unmasked representations of the same card never share an entry.
+     */
+    public static final String CARDS = "cards";
+
+    private CacheNames() {
+    }
+}
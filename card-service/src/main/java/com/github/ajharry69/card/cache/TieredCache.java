@@ -0,0 +1,111 @@
+package com.github.ajharry69.card.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * Two-level {@link Cache}: a bounded, replica-local {@code local} tier in front of a shared {@code remote} tier.
+ * <p>
+ * Reads are served from the local tier whenever possible and fall back to the remote tier (and finally the
+ * value loader), back-filling the local tier on the way out. Writes and evictions go to both tiers and are
+ * announced through {@code evictionPublisher} so that the other replicas can drop their (now stale) local copies
+ * via {@link #evictLocal(Object)}. A {@code null} key announces a {@link #clear()}.
+ */
+class TieredCache implements Cache {
+    private final Cache local;
+    private final Cache remote;
+    private final Consumer<Object> evictionPublisher;
+
+    TieredCache(Cache local, Cache remote, Consumer<Object> evictionPublisher) {
+        this.local = local;
+        this.remote = remote;
+        this.evictionPublisher = evictionPublisher;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(@NonNull Object key) {
+        var value = local.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        value = remote.get(key);
+        if (value != null) {
+            local.put(key, value.get());
+        }
+        return value;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+        var value = get(key);
+        if (value == null) {
+            return null;
+        }
+
+        var object = value.get();
+        if (object != null && type != null && !type.isInstance(object)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + object);
+        }
+        return (T) object;
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        return local.get(key, () -> remote.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        remote.put(key, value);
+        local.put(key, value);
+        evictionPublisher.accept(key);
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        remote.evict(key);
+        local.evict(key);
+        evictionPublisher.accept(key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.clear();
+        evictionPublisher.accept(null);
+    }
+
+    /**
+     * Applies an eviction announced by another replica to the local tier only.
+     *
+     * @param key key to evict, or {@code null} to clear the local tier.
+     */
+    void evictLocal(@Nullable Object key) {
+        if (key == null) {
+            local.clear();
+        } else {
+            local.evict(key);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.github.ajharry69.card.service.account.messaging;
 
 import com.github.ajharry69.card.service.card.CardService;
-import com.github.ajharry69.card.service.card.data.CardRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitHandler;
@@ -12,15 +11,21 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @AllArgsConstructor
 class AccountMessagingConsumer {
-    private final CardRepository repository;
     private final CardService service;
 
     @RabbitHandler
     @RabbitListener(queues = AccountMessagingConfig.QUEUE_NAME_DELETE_ACCOUNT)
     public void consumeAccountDeletedEvent(AccountDeletedEvent event) {
         log.info("Consuming account deleted event: {}", event);
-        repository.findByAccountId(event.accountId())
-                .forEach(account -> service.deleteCard(account.getId()));
-        log.info("Consumed account deleted event: {}", event);
+        int deleted = service.deleteCardsByAccountId(event.accountId());
+        log.info("Consumed account deleted event: {}. Deleted {} cards.", event, deleted);
+    }
+
+    @RabbitHandler
+    @RabbitListener(queues = AccountMessagingConfig.QUEUE_NAME_DELETE_ACCOUNTS)
+    public void consumeAccountsDeletedEvent(AccountsDeletedEvent event) {
+        log.info("Consuming accounts deleted event: {}", event);
+        int deleted = service.deleteCardsByAccountIds(event.accountIds());
+        log.info("Consumed accounts deleted event: {}. Deleted {} cards.", event, deleted);
     }
 }
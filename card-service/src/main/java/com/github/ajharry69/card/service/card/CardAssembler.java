@@ -1,16 +1,22 @@
 package com.github.ajharry69.card.service.card;
 
 import com.github.ajharry69.card.service.card.models.dtos.CardResponse;
+import com.github.ajharry69.hateoas.LinkTemplate;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 public class CardAssembler implements RepresentationModelAssembler<CardResponse, EntityModel<CardResponse>> {
+    private static final LinkTemplate SELF = LinkTemplate.of(
+            id -> linkTo(methodOn(CardController.class).getCard(id, false))
+    );
+
     @Override
     public EntityModel<CardResponse> toModel(CardResponse entity) {
         return EntityModel.of(entity)
-                .add(linkTo(methodOn(CardController.class).getCard(entity.id(), false)).withSelfRel());
+                .add(SELF.toLink(entity.id(), IanaLinkRelations.SELF));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,121 @@
+package com.github.ajharry69.card.service.card;
+
+import com.github.ajharry69.SecuritySchemeName;
+import com.github.ajharry69.card.service.card.models.dtos.BatchGetCardsRequest;
+import com.github.ajharry69.card.service.card.models.dtos.BatchGetCardsResponse;
+import com.github.ajharry69.card.service.card.models.dtos.CreateCardsRequest;
+import com.github.ajharry69.card.service.card.models.dtos.CreateCardsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.mediatype.problem.Problem;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Custom-method style ({@code /cards:batch}) endpoints, which cannot be mapped under {@link CardController}'s
+ * {@code /api/v1/cards} prefix without a separating slash.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Cards", description = "Operations related to cards")
+public class CardBatchController {
+    private final CardService service;
+
+    @PostMapping(value = "/cards:batch", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Create cards in bulk",
+            description = "Creates up to " + CreateCardsRequest.MAX_CARDS + " cards. Each item is reported "
+                    + "separately; invalid items and existing card types do not stop the rest from being created."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Batch processed; see the per-item results"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Empty or oversized batch",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_card.create')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"card.create"})
+    public CreateCardsResponse createCards(@RequestBody @Valid CreateCardsRequest request) {
+        return service.createCards(request.cards());
+    }
+
+    @PostMapping(value = "/cards:batchGet", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Get cards by ID in bulk",
+            description = "Looks up to " + BatchGetCardsRequest.MAX_IDS + " cards with one query. Found cards are "
+                    + "keyed by ID; IDs without a card are listed in `notFound`."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Empty or oversized batch",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_card.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"card.read"})
+    public BatchGetCardsResponse getCards(
+            @RequestBody @Valid BatchGetCardsRequest request,
+            @RequestParam(required = false, defaultValue = "false")
+            boolean unmask
+    ) {
+        return service.getCards(request.ids(), unmask);
+    }
+}
@@ -5,6 +5,13 @@ import com.github.ajharry69.card.service.card.data.CardFilter;
 import com.github.ajharry69.card.service.card.models.dtos.CardResponse;
 import com.github.ajharry69.card.service.card.models.dtos.CreateCardRequest;
 import com.github.ajharry69.card.service.card.models.dtos.UpdateCardRequest;
+import com.github.ajharry69.pagination.CountMode;
+import com.github.ajharry69.pagination.CountedPagedModels;
+import com.github.ajharry69.pagination.KeysetCursor;
+import com.github.ajharry69.pagination.KeysetModels;
+import com.github.ajharry69.pagination.LeanPage;
+import com.github.ajharry69.pagination.LeanPages;
+import com.github.ajharry69.pagination.Projections;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,6 +24,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
@@ -27,6 +35,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -37,8 +46,12 @@ public class CardController {
     private final CardService service;
     private final PagedResourcesAssembler<CardResponse> cardPageAssembler;
 
-    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE})
-    @Operation(summary = "Get cards")
+    @GetMapping(params = "!" + KeysetCursor.PARAMETER, produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Get cards",
+            description = "`count` selects how `page.totalElements` is obtained: `EXACT` (default), `CACHED` or `NONE`. " +
+                    "`fields` (e.g. `fields=alias,type`) limits each element to the listed fields and its `id`."
+    )
     @ApiResponses(
             {
                     @ApiResponse(
@@ -61,15 +74,104 @@ public class CardController {
     @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"card.read"})
     public PagedModel<EntityModel<CardResponse>> getCards(
             @ModelAttribute CardFilter filter,
+            @RequestParam(name = CountMode.PARAMETER, defaultValue = "EXACT")
+            CountMode count,
+            @RequestParam(name = Projections.PARAMETER, required = false)
+            Set<String> fields,
             Pageable pageable
     ) {
-        var cards = service.getCards(pageable, filter);
-        return cardPageAssembler.toModel(
-                cards,
-                new CardAssembler()
+        var cards = service.getCards(pageable, filter, count, fields);
+        return CountedPagedModels.withCount(
+                cardPageAssembler.toModel(
+                        cards,
+                        new CardAssembler()
+                ),
+                count
         );
     }
 
+    @GetMapping(params = "!" + KeysetCursor.PARAMETER, produces = {LeanPages.MEDIA_TYPE_VALUE})
+    @Operation(
+            summary = "Get cards without per-element links",
+            description = "Same page as `application/json`, with the cards as a plain `content` array and only the " +
+                    "page's `links`."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval."
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_card.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"card.read"})
+    public LeanPage<CardResponse> getCardsLean(
+            @ModelAttribute CardFilter filter,
+            @RequestParam(name = CountMode.PARAMETER, defaultValue = "EXACT")
+            CountMode count,
+            @RequestParam(name = Projections.PARAMETER, required = false)
+            Set<String> fields,
+            Pageable pageable
+    ) {
+        var cards = service.getCards(pageable, filter, count, fields);
+        return LeanPages.of(cards, cardPageAssembler, count);
+    }
+
+    @GetMapping(params = KeysetCursor.PARAMETER, produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Get cards after a cursor",
+            description = "Newest first. Pass an empty `cursor` for the first page, then follow the `next` link."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval."
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid cursor",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_card.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"card.read"})
+    public CollectionModel<EntityModel<CardResponse>> getCardsAfter(
+            @ModelAttribute CardFilter filter,
+            @RequestParam(KeysetCursor.PARAMETER) String cursor,
+            Pageable pageable
+    ) {
+        var cards = service.getCards(KeysetCursor.scrollPosition(cursor), pageable.getPageSize(), filter);
+        return KeysetModels.toModel(cards, new CardAssembler());
+    }
+
     @PostMapping(produces = {MediaType.APPLICATION_JSON_VALUE})
     @Operation(summary = "Create card")
     @ApiResponses(
@@ -0,0 +1,110 @@
+package com.github.ajharry69.card.service.card;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.ajharry69.SecuritySchemeName;
+import com.github.ajharry69.card.service.card.data.CardFilter;
+import com.github.ajharry69.card.service.card.models.dtos.CardResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.mediatype.problem.Problem;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams every card matching a filter as newline-delimited JSON, for clients that would otherwise page through
+ * {@code GET /api/v1/cards}.
+ * <p>
+ * Cards are written to the response as they are read from the database cursor, on the request's own (virtual)
+ * thread, so neither side holds more than a fetch's worth of cards however many match. The response is committed
+ * with the first buffer-full of cards; a failure after that can only be signalled by cutting the response short.
+ */
+@RestController
+@RequestMapping("/api/v1/cards")
+@Tag(name = "Cards", description = "Operations related to cards")
+public class CardExportController {
+    private final CardService service;
+    private final ObjectWriter writer;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public CardExportController(
+            CardService service,
+            ObjectMapper objectMapper,
+            @Value("${application.config.cards.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.service = service;
+        this.objectMapper = objectMapper;
+        // The servlet container flushes its buffer as it fills; flushing after every card would send a packet each.
+        this.writer = objectMapper.writerFor(CardResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+    }
+
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(
+            summary = "Export cards",
+            description = "Every card matching the same filters as `GET /api/v1/cards`, one JSON object per line. " +
+                    "Cards are masked unless `unmask` is `true`."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful export."
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_card.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"card.read"})
+    public void exportCards(@ModelAttribute CardFilter filter, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+            // Lines are terminated explicitly below rather than separated.
+            generator.setRootValueSeparator(null);
+            try {
+                service.exportCards(filter, fetchSize, card -> write(generator, card));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private void write(JsonGenerator generator, CardResponse card) {
+        try {
+            writer.writeValue(generator, card);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
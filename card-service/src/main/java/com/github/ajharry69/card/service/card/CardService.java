@@ -1,5 +1,6 @@
 package com.github.ajharry69.card.service.card;
 
+import com.github.ajharry69.card.cache.CacheNames;
 import com.github.ajharry69.card.exceptions.CardNotFoundException;
 import com.github.ajharry69.card.exceptions.CardTypeAlreadyExistsException;
 import com.github.ajharry69.card.service.card.data.CardFilter;
@@ -7,41 +8,147 @@ import com.github.ajharry69.card.service.card.data.CardRepository;
 import com.github.ajharry69.card.service.card.data.CardSpecification;
 import com.github.ajharry69.card.service.card.models.Card;
 import com.github.ajharry69.card.service.card.models.CardMapper;
+import com.github.ajharry69.card.service.card.models.CardType;
+import com.github.ajharry69.card.service.card.models.dtos.BatchGetCardsResponse;
 import com.github.ajharry69.card.service.card.models.dtos.CardResponse;
 import com.github.ajharry69.card.service.card.models.dtos.CreateCardRequest;
+import com.github.ajharry69.card.service.card.models.dtos.CreateCardResult;
+import com.github.ajharry69.card.service.card.models.dtos.CreateCardsResponse;
 import com.github.ajharry69.card.service.card.models.dtos.UpdateCardRequest;
+import com.github.ajharry69.lookup.IdLookup;
+import com.github.ajharry69.pagination.CountMode;
+import com.github.ajharry69.pagination.KeysetCursor;
+import com.github.ajharry69.pagination.PageCounter;
+import com.github.ajharry69.pagination.Projections;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class CardService {
+    private static final int MAX_ACCOUNT_IDS_PER_DELETE = 10_000;
+    private static final String PAN = "pan";
+    private static final String CVV = "cvv";
+    private static final Set<String> MASKED_FIELDS = Set.of(PAN, CVV);
     private final CardMapper mapper;
     private final CardRepository repository;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final PageCounter pageCounter;
+    private final Validator validator;
 
     public Page<CardResponse> getCards(Pageable pageable, CardFilter filter) {
+        return getCards(pageable, filter, CountMode.EXACT);
+    }
+
+    public Page<CardResponse> getCards(Pageable pageable, CardFilter filter, CountMode countMode) {
         log.info("Getting cards with filter: {}...", filter);
         var specification = new CardSpecification(filter);
-        Function<Card, CardResponse> toResponse;
-        if (filter.getUnmask() == null || !filter.getUnmask()) {
-            toResponse = mapper::toResponse;
-        } else {
-            toResponse = mapper::toUnmaskedResponse;
+        Page<CardResponse> page = pageCounter.findAll(repository, specification, filter, pageable, countMode)
+                .map(toResponse(filter));
+        log.info("Found {} cards with filter: {}", page.getNumberOfElements(), filter);
+        return page;
+    }
+
+    /**
+     * Same as {@link #getCards(Pageable, CardFilter, CountMode)}, but only reading the {@code fields} of each card
+     * (see {@link Projections}). Masked fields are never read.
+     */
+    public Page<CardResponse> getCards(
+            Pageable pageable,
+            CardFilter filter,
+            CountMode countMode,
+            Collection<String> fields
+    ) {
+        var attributes = Projections.attributes(fields, CardResponse.class);
+        if (attributes == null) {
+            return getCards(pageable, filter, countMode);
+        }
+
+        log.info("Getting {} of cards with filter: {}...", attributes, filter);
+        var masked = filter.getUnmask() == null || !filter.getUnmask();
+        var selected = new LinkedHashSet<>(attributes);
+        if (masked) {
+            selected.removeAll(MASKED_FIELDS);
         }
-        Page<CardResponse> page = repository.findAll(specification, pageable)
-                .map(toResponse);
+        var specification = new CardSpecification(filter);
+        Page<CardResponse> page = pageCounter
+                .findAll(repository, specification, selected, filter, pageable, countMode)
+                .map(values -> {
+                    if (masked && attributes.contains(PAN)) {
+                        values.put(PAN, CardMapper.MASKED_PAN);
+                    }
+                    if (masked && attributes.contains(CVV)) {
+                        values.put(CVV, CardMapper.MASKED_CVV);
+                    }
+                    return mapper.toProjectedResponse(values);
+                });
         log.info("Found {} cards with filter: {}", page.getNumberOfElements(), filter);
         return page;
     }
 
+    /**
+     * Seeks to the {@code size} newest cards after {@code position} (see {@link KeysetCursor}). Unlike
+     * {@link #getCards(Pageable, CardFilter)}, no total count is computed and results are always ordered by
+     * recency, even when searching by alias.
+     */
+    public Window<CardResponse> getCards(ScrollPosition position, int size, CardFilter filter) {
+        log.info("Getting cards after {} with filter: {}...", position, filter);
+        var specification = new CardSpecification(filter);
+        Window<Card> cards = repository.findBy(
+                specification,
+                query -> query.sortBy(KeysetCursor.SORT)
+                        .limit(size)
+                        .scroll(position)
+        );
+        Window<CardResponse> window = cards.map(toResponse(filter));
+        log.info("Found {} cards with filter: {}", window.size(), filter);
+        return window;
+    }
+
+    /**
+     * Passes every card matching {@code filter} to {@code action}, masked unless unmasking is requested, reading
+     * them {@code fetchSize} at a time so that memory use does not grow with the number of matches.
+     *
+     * @return number of cards exported.
+     */
+    public long exportCards(CardFilter filter, int fetchSize, Consumer<CardResponse> action) {
+        log.info("Exporting cards with filter: {}...", filter);
+        var toResponse = toResponse(filter);
+        long count = repository.forEach(
+                new CardSpecification(filter),
+                fetchSize,
+                card -> action.accept(toResponse.apply(card))
+        );
+        log.info("Exported {} cards with filter: {}", count, filter);
+        return count;
+    }
+
+    private Function<Card, CardResponse> toResponse(CardFilter filter) {
+        if (filter.getUnmask() == null || !filter.getUnmask()) {
+            return mapper::toResponse;
+        }
+        return mapper::toUnmaskedResponse;
+    }
+
     @Transactional
     public CardResponse createCard(CreateCardRequest request) {
         log.info("Creating card: {}", request);
@@ -56,6 +163,80 @@ public class CardService {
         return response;
     }
 
+    /**
+     * Creates every valid card of the batch with batched inserts, after checking all of them for an existing
+     * card of the same type with one query.
+     */
+    @Transactional
+    public CreateCardsResponse createCards(List<CreateCardRequest> requests) {
+        log.info("Creating {} cards...", requests.size());
+        Set<UUID> accountIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateCardRequest::accountId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<AccountCardType> existing = new HashSet<>();
+        if (!accountIds.isEmpty()) {
+            repository.findByAccountIdIn(accountIds)
+                    .forEach(card -> existing.add(new AccountCardType(card.getAccountId(), card.getType())));
+        }
+
+        var results = new ArrayList<CreateCardResult>(Collections.nCopies(requests.size(), null));
+        var cards = new ArrayList<Card>();
+        var cardIndexes = new ArrayList<Integer>();
+        for (int index = 0; index < requests.size(); index++) {
+            var request = requests.get(index);
+            var errors = validate(request);
+            if (!errors.isEmpty()) {
+                results.set(index, CreateCardResult.builder()
+                        .index(index)
+                        .status(CreateCardResult.Status.INVALID)
+                        .errors(errors)
+                        .build());
+            } else if (!existing.add(new AccountCardType(request.accountId(), request.type()))) {
+                results.set(index, CreateCardResult.builder()
+                        .index(index)
+                        .status(CreateCardResult.Status.CARD_TYPE_ALREADY_EXISTS)
+                        .build());
+            } else {
+                cards.add(mapper.toEntity(request));
+                cardIndexes.add(index);
+            }
+        }
+
+        List<Card> created = repository.saveAll(cards);
+        for (int i = 0; i < created.size(); i++) {
+            int index = cardIndexes.get(i);
+            results.set(index, CreateCardResult.builder()
+                    .index(index)
+                    .status(CreateCardResult.Status.CREATED)
+                    .card(mapper.toResponse(created.get(i)))
+                    .build());
+        }
+        log.info("Created {} of {} cards", created.size(), requests.size());
+        return CreateCardsResponse.builder()
+                .created(created.size())
+                .results(results)
+                .build();
+    }
+
+    private List<String> validate(CreateCardRequest request) {
+        if (request == null) {
+            return List.of("must not be null");
+        }
+
+        var errors = validator.validate(request)
+                .stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (request.accountId() == null) {
+            errors.add("accountId: must not be null");
+        }
+        return errors;
+    }
+
+    @Cacheable(cacheNames = CacheNames.CARDS, key = "#cardId + ':' + #unmask", sync = true)
     public CardResponse getCard(UUID cardId, boolean unmask) {
         log.info("Getting card with id: {}", cardId);
         Card card = repository.findById(cardId)
@@ -71,7 +252,25 @@ public class CardService {
         return response;
     }
 
+    /**
+     * Looks up every card of {@code cardIds} with one query. Duplicate IDs are looked up once.
+     */
+    public BatchGetCardsResponse getCards(Collection<UUID> cardIds, boolean unmask) {
+        log.info("Getting {} cards by id...", cardIds.size());
+        Function<Card, CardResponse> toResponse = unmask ? mapper::toUnmaskedResponse : mapper::toResponse;
+        var lookup = IdLookup.of(cardIds, repository::findAllByIdArray, Card::getId, toResponse);
+        log.info("Found {} of {} cards", lookup.found().size(), lookup.requested());
+        return BatchGetCardsResponse.builder()
+                .cards(lookup.found())
+                .notFound(lookup.notFound())
+                .build();
+    }
+
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.CARDS, key = "#cardId + ':true'"),
+            @CacheEvict(cacheNames = CacheNames.CARDS, key = "#cardId + ':false'")
+    })
     public CardResponse updateCard(UUID cardId, UpdateCardRequest request) {
         log.info("Updating card with id: {} with request: {}", cardId, request);
         var entity = repository.findById(cardId)
@@ -87,18 +286,47 @@ public class CardService {
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.CARDS, key = "#cardId + ':true'"),
+            @CacheEvict(cacheNames = CacheNames.CARDS, key = "#cardId + ':false'")
+    })
     public void deleteCard(UUID cardId) {
         log.info("Deleting card with id: {}", cardId);
-        checkExistsByIdOrThrow(cardId);
+        if (repository.deleteByIdReturningCount(cardId) == 0) {
+            log.info("Card with id: {} not found", cardId);
+            throw new CardNotFoundException();
+        }
 
-        repository.deleteById(cardId);
         log.info("Deleted card with id: {}", cardId);
     }
 
-    private void checkExistsByIdOrThrow(UUID cardId) {
-        if (!repository.existsById(cardId)) {
-            log.info("Card with id: {} not found", cardId);
-            throw new CardNotFoundException();
+    @Transactional
+    public int deleteCardsByAccountId(UUID accountId) {
+        return deleteCardsByAccountIds(List.of(accountId));
+    }
+
+    @Transactional
+    public int deleteCardsByAccountIds(List<UUID> accountIds) {
+        log.info("Deleting cards for accounts with ids: {}", accountIds);
+        var cache = cacheManager.getCache(CacheNames.CARDS);
+        int deleted = 0;
+        // Postgres caps bind parameters per statement, so very large cascades are split into a few statements.
+        for (int from = 0; from < accountIds.size(); from += MAX_ACCOUNT_IDS_PER_DELETE) {
+            var chunk = accountIds.subList(from, Math.min(from + MAX_ACCOUNT_IDS_PER_DELETE, accountIds.size()));
+            List<UUID> cardIds = repository.deleteByAccountIdInReturningId(chunk);
+            if (cache != null) {
+                cardIds.forEach(cardId -> {
+                    cache.evict(cardId + ":true");
+                    cache.evict(cardId + ":false");
+                });
+            }
+            deleted += cardIds.size();
         }
+        meterRegistry.summary("cards.cascade.deleted").record(deleted);
+        log.info("Deleted {} cards for accounts with ids: {}", deleted, accountIds);
+        return deleted;
+    }
+
+    private record AccountCardType(UUID accountId, CardType type) {
     }
 }
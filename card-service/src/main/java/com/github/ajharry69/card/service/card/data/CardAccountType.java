@@ -0,0 +1,15 @@
+package com.github.ajharry69.card.service.card.data;
+
+import com.github.ajharry69.card.service.card.models.Card;
+import com.github.ajharry69.card.service.card.models.CardType;
+
+import java.util.UUID;
+
+/**
+ * Projection for {@link Card}
+ */
+public interface CardAccountType {
+    UUID getAccountId();
+
+    CardType getType();
+}
@@ -0,0 +1,20 @@
+package com.github.ajharry69.card.service.card.data;
+
+import com.github.ajharry69.card.service.card.models.Card;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.function.Consumer;
+
+/**
+ * Repository fragment for reading every matching card without holding them all in memory.
+ */
+public interface CardCursorReader {
+    /**
+     * Passes each card matching {@code specification} to {@code action} as it is read from a forward-only cursor
+     * that fetches {@code fetchSize} rows at a time. The cards are not managed: nothing keeps a reference to them
+     * once {@code action} returns.
+     *
+     * @return number of cards read.
+     */
+    long forEach(Specification<Card> specification, int fetchSize, Consumer<Card> action);
+}
@@ -12,6 +12,7 @@ import java.util.UUID;
 @Setter
 @Getter
 @ToString
+@EqualsAndHashCode
 public class CardFilter {
     private Boolean unmask;
     private UUID accountId;
@@ -2,6 +2,8 @@ package com.github.ajharry69.card.service.card.data;
 
 import com.github.ajharry69.card.service.card.models.Card;
 import com.github.ajharry69.card.service.card.models.CardType;
+import com.github.ajharry69.pagination.ProjectionSpecificationExecutor;
+import com.github.ajharry69.pagination.SliceSpecificationExecutor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,16 +12,48 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface CardRepository extends JpaRepository<Card, UUID>, JpaSpecificationExecutor<Card> {
+public interface CardRepository extends JpaRepository<Card, UUID>, JpaSpecificationExecutor<Card>,
+        SliceSpecificationExecutor<Card>, ProjectionSpecificationExecutor<Card>, CardCursorReader {
     @Transactional
     @Modifying
     @Query("update cards c set c.dateCreated = :dateCreated where c.id = :id")
     void updateDateCreatedById(@Param("dateCreated") OffsetDateTime dateCreated, @Param("id") UUID id);
 
+    /**
+     * Deletes the card in a single statement, without loading it first.
+     *
+     * @return number of deleted cards: {@code 0} if there is none with the ID.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from cards c where c.id = :id")
+    int deleteByIdReturningCount(@Param("id") UUID id);
+
     boolean existsByAccountIdAndType(UUID accountId, CardType type);
 
     List<CardID> findByAccountId(UUID accountId);
+
+    List<CardAccountType> findByAccountIdIn(Collection<UUID> accountIds);
+
+    @Query(
+            value = """
+                    select id, alias, pan, cvv, type, account_id, date_created, date_last_modified
+                    from cards
+                    where id = any(:ids)""",
+            nativeQuery = true
+    )
+    List<Card> findAllByIdArray(@Param("ids") UUID[] ids);
+
+    /**
+     * Deletes every card of the accounts in a single statement.
+     *
+     * @return IDs of the deleted cards.
+     */
+    @Transactional
+    @Query(value = "delete from cards where account_id in (:accountIds) returning id", nativeQuery = true)
+    List<UUID> deleteByAccountIdInReturningId(@Param("accountIds") Collection<UUID> accountIds);
 }
\ No newline at end of file
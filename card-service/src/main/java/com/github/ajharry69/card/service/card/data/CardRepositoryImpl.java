@@ -0,0 +1,73 @@
+package com.github.ajharry69.card.service.card.data;
+
+import com.github.ajharry69.card.service.card.models.Card;
+import com.github.ajharry69.pagination.ProjectionSpecificationExecutor;
+import com.github.ajharry69.pagination.Projections;
+import com.github.ajharry69.pagination.SliceSpecificationExecutor;
+import com.github.ajharry69.pagination.SpecificationSlices;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+class CardRepositoryImpl implements SliceSpecificationExecutor<Card>, ProjectionSpecificationExecutor<Card>,
+        CardCursorReader {
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<Card> findSlice(Specification<Card> specification, Pageable pageable) {
+        return SpecificationSlices.find(entityManager, Card.class, specification, pageable);
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findProjectedSlice(
+            Specification<Card> specification,
+            Collection<String> attributes,
+            Pageable pageable
+    ) {
+        return Projections.findSlice(entityManager, Card.class, specification, attributes, pageable);
+    }
+
+    /**
+     * Reads through a stateless session, so there is no persistence context for the cards to accumulate in.
+     */
+    @Override
+    public long forEach(Specification<Card> specification, int fetchSize, Consumer<Card> action) {
+        var sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        try (var session = sessionFactory.openStatelessSession()) {
+            // PostgreSQL only honours the fetch size (i.e. uses a server-side cursor) outside of auto-commit mode;
+            // otherwise the driver materialises the whole result set on the first read.
+            var transaction = session.beginTransaction();
+            try {
+                var cb = session.getCriteriaBuilder();
+                var query = cb.createQuery(Card.class);
+                var root = query.from(Card.class);
+                var predicate = specification.toPredicate(root, query, cb);
+                if (predicate != null) {
+                    query.where(predicate);
+                }
+                query.select(root);
+
+                long count = 0;
+                try (var cards = session.createSelectionQuery(query).setFetchSize(fetchSize).stream()) {
+                    var iterator = cards.iterator();
+                    while (iterator.hasNext()) {
+                        action.accept(iterator.next());
+                        count++;
+                    }
+                }
+                return count;
+            } finally {
+                // Nothing was written.
+                transaction.rollback();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.ajharry69.card.service.card.data;
 
+import com.github.ajharry69.autoconfigure.DTBFunctionContributor;
 import com.github.ajharry69.card.service.card.models.Card;
 import jakarta.persistence.criteria.*;
 import lombok.AllArgsConstructor;
@@ -23,6 +24,7 @@ public class CardSpecification implements Specification<Card> {
         if (filter.getAlias() != null && StringUtils.hasText(filter.getAlias())) {
             String searchTerm = filter.getAlias().trim();
 
+            var searchable = cb.function(DTBFunctionContributor.SEARCHABLE, Object.class, root.get("id"));
             var tsQuery = cb.function(
                     "websearch_to_tsquery",
                     Object.class,
@@ -31,9 +33,9 @@ public class CardSpecification implements Specification<Card> {
 
             predicates.add(
                     cb.isTrue(cb.function(
-                            "ts_match_vq",
+                            DTBFunctionContributor.FULL_TEXT_MATCH,
                             Boolean.class,
-                            root.get("searchable"),
+                            searchable,
                             tsQuery
                     ))
             );
@@ -41,7 +43,7 @@ public class CardSpecification implements Specification<Card> {
             var rankExpression = cb.function(
                     "ts_rank",
                     Double.class,
-                    root.get("searchable"),
+                    searchable,
                     tsQuery
             );
             // Add ORDER BY rank DESC
@@ -7,18 +7,38 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.Map;
+import java.util.UUID;
+
 
 @Mapper(
         componentModel = MappingConstants.ComponentModel.SPRING,
         unmappedTargetPolicy = ReportingPolicy.IGNORE
 )
 public interface CardMapper {
+    String MASKED_PAN = "*************";
+    String MASKED_CVV = "***";
+
     @Mapping(target = "id", ignore = true)
     Card toEntity(CreateCardRequest request);
 
-    @Mapping(target = "pan", expression = "java(\"*************\")")
-    @Mapping(target = "cvv", expression = "java(\"***\")")
+    @Mapping(target = "pan", expression = "java(MASKED_PAN)")
+    @Mapping(target = "cvv", expression = "java(MASKED_CVV)")
     CardResponse toResponse(Card card);
 
     CardResponse toUnmaskedResponse(Card card);
+
+    /**
+     * Maps the attributes selected by a projection; the others are left {@code null}.
+     */
+    default CardResponse toProjectedResponse(Map<String, Object> values) {
+        return CardResponse.builder()
+                .id((UUID) values.get("id"))
+                .alias((String) values.get("alias"))
+                .pan((String) values.get("pan"))
+                .cvv((String) values.get("cvv"))
+                .type((CardType) values.get("type"))
+                .accountId((UUID) values.get("accountId"))
+                .build();
+    }
 }
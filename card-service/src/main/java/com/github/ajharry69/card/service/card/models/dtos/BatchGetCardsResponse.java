@@ -0,0 +1,17 @@
+package com.github.ajharry69.card.service.card.models.dtos;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * @param cards    found cards keyed by ID, in the order they were requested.
+ * @param notFound requested IDs without a card.
+ */
+@Builder
+public record BatchGetCardsResponse(
+        Map<UUID, CardResponse> cards,
+        List<UUID> notFound) {
+}
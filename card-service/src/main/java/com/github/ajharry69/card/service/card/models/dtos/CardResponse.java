@@ -1,11 +1,14 @@
 package com.github.ajharry69.card.service.card.models.dtos;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.github.ajharry69.card.service.card.models.CardType;
+import com.github.ajharry69.pagination.Projections;
 import lombok.Builder;
 
 import java.util.UUID;
 
 @Builder
+@JsonFilter(Projections.FILTER)
 public record CardResponse(
         UUID id,
         String alias,
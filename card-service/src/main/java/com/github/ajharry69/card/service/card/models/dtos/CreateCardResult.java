@@ -0,0 +1,30 @@
+package com.github.ajharry69.card.service.card.models.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Outcome of one item of a {@link CreateCardsRequest}.
+ *
+ * @param index  position of the item in {@link CreateCardsRequest#cards()}.
+ * @param card   created card, if {@link Status#CREATED}.
+ * @param errors constraint violations, if {@link Status#INVALID}.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CreateCardResult(
+        int index,
+        Status status,
+        CardResponse card,
+        List<String> errors) {
+    public enum Status {
+        CREATED,
+        INVALID,
+        /**
+         * The account already has a card of the same type, or an earlier item of the batch creates one.
+         */
+        CARD_TYPE_ALREADY_EXISTS
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.ajharry69.card.service.card.models.dtos;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Items are validated one by one so that an invalid card is reported in its {@link CreateCardResult} instead of
+ * failing the whole batch.
+ */
+@Builder
+public record CreateCardsRequest(
+        @NotEmpty
+        @Size(max = CreateCardsRequest.MAX_CARDS)
+        List<CreateCardRequest> cards) {
+    public static final int MAX_CARDS = 1000;
+}
@@ -0,0 +1,11 @@
+package com.github.ajharry69.card.service.card.models.dtos;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CreateCardsResponse(
+        int created,
+        List<CreateCardResult> results) {
+}
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_cards_date_created_id ON cards (date_created DESC, id DESC);
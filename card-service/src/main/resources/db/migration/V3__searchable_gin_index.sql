@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_cards_searchable ON cards USING GIN (searchable);
@@ -0,0 +1,121 @@
+package com.github.ajharry69.card.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TieredCacheTest {
+    private final ConcurrentMapCache local = new ConcurrentMapCache(CacheNames.CARDS);
+    private final ConcurrentMapCache remote = new ConcurrentMapCache(CacheNames.CARDS);
+    private final List<Object> publishedEvictions = new ArrayList<>();
+
+    private TieredCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new TieredCache(local, remote, publishedEvictions::add);
+    }
+
+    @Nested
+    class Get {
+        @Test
+        void shouldBackFillLocalTier_WhenValueIsOnlyInRemoteTier() {
+            // Given
+            remote.put("key", "value");
+
+            // When
+            var actual = cache.get("key");
+
+            // Then
+            assertAll(
+                    () -> assertThat(actual).isNotNull(),
+                    () -> assertThat(actual.get()).isEqualTo("value"),
+                    () -> assertThat(local.get("key", String.class)).isEqualTo("value")
+            );
+        }
+
+        @Test
+        void shouldLoadIntoBothTiers_WhenValueIsAbsent() {
+            // When
+            var actual = cache.get("key", () -> "value");
+
+            // Then
+            assertAll(
+                    () -> assertThat(actual).isEqualTo("value"),
+                    () -> assertThat(local.get("key", String.class)).isEqualTo("value"),
+                    () -> assertThat(remote.get("key", String.class)).isEqualTo("value"),
+                    () -> assertThat(publishedEvictions).isEmpty()
+            );
+        }
+
+        @Test
+        void shouldNotCallLoader_WhenValueIsInLocalTier() {
+            // Given
+            local.put("key", "value");
+
+            // When
+            var actual = cache.get("key", () -> {
+                throw new IllegalStateException("Loader should not be called");
+            });
+
+            // Then
+            assertThat(actual).isEqualTo("value");
+        }
+    }
+
+    @Nested
+    class Evict {
+        @Test
+        void shouldEvictBothTiersAndPublishKey() {
+            // Given
+            local.put("key", "value");
+            remote.put("key", "value");
+
+            // When
+            cache.evict("key");
+
+            // Then
+            assertAll(
+                    () -> assertThat(local.get("key")).isNull(),
+                    () -> assertThat(remote.get("key")).isNull(),
+                    () -> assertThat(publishedEvictions).containsExactly("key")
+            );
+        }
+
+        @Test
+        void shouldOnlyEvictLocalTier_WhenEvictionComesFromAnotherReplica() {
+            // Given
+            local.put("key", "value");
+            remote.put("key", "value");
+
+            // When
+            cache.evictLocal("key");
+
+            // Then
+            assertAll(
+                    () -> assertThat(local.get("key")).isNull(),
+                    () -> assertThat(remote.get("key", String.class)).isEqualTo("value"),
+                    () -> assertThat(publishedEvictions).isEmpty()
+            );
+        }
+
+        @Test
+        void shouldClearLocalTier_WhenReplicaAnnouncesClear() {
+            // Given
+            local.put("key", "value");
+
+            // When
+            cache.evictLocal(null);
+
+            // Then
+            assertThat(local.get("key")).isNull();
+        }
+    }
+}
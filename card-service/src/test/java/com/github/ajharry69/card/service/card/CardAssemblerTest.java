@@ -0,0 +1,45 @@
+package com.github.ajharry69.card.service.card;
+
+import com.github.ajharry69.card.service.card.models.CardType;
+import com.github.ajharry69.card.service.card.models.dtos.CardResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Links;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class CardAssemblerTest {
+    private final CardAssembler assembler = new CardAssembler();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldBuildSameLinksAsLinkTo() {
+        // Given
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/v1/cards"))
+        );
+        var card = CardResponse.builder()
+                .id(UUID.randomUUID())
+                .alias("John Doe")
+                .type(CardType.VIRTUAL)
+                .build();
+
+        // When
+        var model = assembler.toModel(card);
+
+        // Then
+        var expected = Links.of(linkTo(methodOn(CardController.class).getCard(card.id(), false)).withSelfRel());
+        assertThat(model.getLinks()).hasToString(expected.toString());
+    }
+}
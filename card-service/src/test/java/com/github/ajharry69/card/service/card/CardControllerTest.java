@@ -2,17 +2,24 @@ package com.github.ajharry69.card.service.card;
 
 import com.github.ajharry69.card.IntegrationTest;
 import com.github.ajharry69.card.TestcontainersConfiguration;
+import com.github.ajharry69.card.exceptions.CardNotFoundException;
 import com.github.ajharry69.card.service.card.data.CardFilter;
 import com.github.ajharry69.card.service.card.data.CardRepository;
 import com.github.ajharry69.card.service.card.models.Card;
 import com.github.ajharry69.card.service.card.models.CardType;
+import com.github.ajharry69.card.service.card.models.dtos.BatchGetCardsRequest;
 import com.github.ajharry69.card.service.card.models.dtos.CreateCardRequest;
+import com.github.ajharry69.card.service.card.models.dtos.CreateCardsRequest;
 import com.github.ajharry69.card.service.card.models.dtos.UpdateCardRequest;
+import com.github.ajharry69.pagination.LeanPages;
 import dasniko.testcontainers.keycloak.KeycloakContainer;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import jakarta.persistence.EntityManagerFactory;
 import net.datafaker.Faker;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +34,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -37,12 +46,16 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -57,6 +70,8 @@ class CardControllerTest extends IntegrationTest {
             .withRealmImportFile("/realm.json");
     @Autowired
     private CardRepository repository;
+    @Autowired
+    private CardService service;
     private Card card;
 
     @DynamicPropertySource
@@ -552,5 +567,346 @@ class CardControllerTest extends IntegrationTest {
                     .statusCode(HttpStatus.OK.value())
                     .body("page.totalElements", equalTo(expectedTotalElements));
         }
+
+        @Test
+        void shouldReturnPlainArrayWithPageLinks_WhenAcceptingLeanMediaType() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .accept(LeanPages.MEDIA_TYPE_VALUE)
+                    .when()
+                    .queryParam("size", 1)
+                    .get("/api/v1/cards");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .contentType(startsWith(LeanPages.MEDIA_TYPE_VALUE))
+                    .body("_embedded", nullValue())
+                    .body("content", hasSize(1))
+                    .body("content[0].id", notNullValue())
+                    .body("content[0]._links", nullValue())
+                    .body("page.totalElements", equalTo(2))
+                    .body("links.self", containsString("/api/v1/cards"))
+                    .body("links.next", containsString("page=1"));
+        }
+
+        @Test
+        void shouldReturnRequestedFieldsOnly_WhenFieldsAreGiven() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .queryParam("fields", "alias,pan")
+                    .get("/api/v1/cards");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("_embedded.cardResponseList", hasSize(2))
+                    .body("_embedded.cardResponseList.id", everyItem(notNullValue()))
+                    .body("_embedded.cardResponseList.alias", everyItem(notNullValue()))
+                    .body("_embedded.cardResponseList.pan", everyItem(equalTo("*************")))
+                    .body("_embedded.cardResponseList[0]", not(hasKey("cvv")))
+                    .body("_embedded.cardResponseList[0]", not(hasKey("type")))
+                    .body("_embedded.cardResponseList[0]", not(hasKey("accountId")))
+                    .body("_embedded.cardResponseList[0]._links.self.href", containsString("/api/v1/cards/"))
+                    .body("page.totalElements", equalTo(2));
+        }
+
+        @Test
+        void shouldReturnBadRequestForUnknownFields() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .queryParam("fields", "alias,searchable")
+                    .get("/api/v1/cards");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value())
+                    .body("errorCode", equalTo("INVALID_FIELDS"));
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "GET - /api/v1/cards/export")
+    class ExportCards {
+        @Test
+        void shouldStreamMaskedCardsAsNdjson() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .get("/api/v1/cards/export");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .contentType(startsWith(MediaType.APPLICATION_NDJSON_VALUE));
+            var lines = response.asString().lines().toList();
+            assertAll(
+                    () -> assertThat(lines)
+                            .hasSize(2)
+                            .allSatisfy(line -> assertThat(line).contains("\"pan\":\"*************\"")),
+                    () -> assertThat(lines)
+                            .anySatisfy(line -> assertThat(line).contains(String.valueOf(card.getId())))
+            );
+        }
+
+        @Test
+        void shouldStreamOnlyMatchingUnmaskedCards_WhenFilteredAndUnmasked() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .queryParam("accountId", card.getAccountId())
+                    .queryParam("unmask", true)
+                    .get("/api/v1/cards/export");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value());
+            assertThat(response.asString().lines().toList())
+                    .singleElement()
+                    .satisfies(line -> assertThat(line).contains("\"pan\":\"" + card.getPan() + "\""));
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "GET - /api/v1/cards?cursor=")
+    class GetCardsAfterCursor {
+        @Test
+        void shouldSeekThroughAllCards_WhenFollowingNextLinks() {
+            Response firstPage = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .queryParam("cursor", "")
+                    .queryParam("size", 1)
+                    .get("/api/v1/cards");
+
+            firstPage.prettyPrint();
+
+            firstPage
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("_embedded.cardResponseList", hasSize(1))
+                    .body("_embedded.cardResponseList[0].id", equalTo(String.valueOf(card.getId())))
+                    .body("page", nullValue())
+                    .body("_links.next.href", containsString("cursor="));
+
+            Response secondPage = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .get(firstPage.path("_links.next.href").toString());
+
+            secondPage.prettyPrint();
+
+            secondPage
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("_embedded.cardResponseList", hasSize(1))
+                    .body("_embedded.cardResponseList[0].alias", equalTo("John Doe"))
+                    .body("_links.next", nullValue());
+        }
+
+        @Test
+        void shouldReturnBadRequestForInvalidCursor() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .queryParam("cursor", "not-a-cursor")
+                    .get("/api/v1/cards");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value())
+                    .body("errorCode", equalTo("INVALID_CURSOR"));
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "POST - /api/v1/cards:batch")
+    class CreateCards {
+        @Test
+        void shouldReportEachCard() {
+            Response response = given()
+                    .auth().oauth2(getAdminAccessToken())
+                    .contentType(ContentType.JSON)
+                    .body(
+                            CreateCardsRequest.builder()
+                                    .cards(
+                                            List.of(
+                                                    CreateCardRequest.builder()
+                                                            .alias(alias())
+                                                            .pan(pan())
+                                                            .cvv(cvv())
+                                                            .type(type())
+                                                            .accountId(UUID.randomUUID())
+                                                            .build(),
+                                                    CreateCardRequest.builder()
+                                                            .alias(alias())
+                                                            .pan(pan())
+                                                            .cvv(cvv())
+                                                            .type(card.getType())
+                                                            .accountId(card.getAccountId())
+                                                            .build(),
+                                                    CreateCardRequest.builder()
+                                                            .alias(alias())
+                                                            .pan("0")
+                                                            .cvv(cvv())
+                                                            .type(type())
+                                                            .accountId(UUID.randomUUID())
+                                                            .build()
+                                            )
+                                    )
+                                    .build()
+                    )
+                    .post("/api/v1/cards:batch");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("created", equalTo(1))
+                    .body("results.status", contains("CREATED", "CARD_TYPE_ALREADY_EXISTS", "INVALID"))
+                    .body("results[0].card.id", not(emptyOrNullString()))
+                    .body("results[2].errors", not(empty()));
+        }
+
+        @Test
+        void shouldReturnBadRequestForEmptyBatch() {
+            Response response = given()
+                    .auth().oauth2(getAdminAccessToken())
+                    .contentType(ContentType.JSON)
+                    .body(CreateCardsRequest.builder().cards(List.of()).build())
+                    .post("/api/v1/cards:batch");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "POST - /api/v1/cards:batchGet")
+    class GetCardsByIds {
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        void shouldReturnCardsKeyedById(boolean unmask) {
+            var missingId = UUID.randomUUID();
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .contentType(ContentType.JSON)
+                    .queryParam("unmask", unmask)
+                    .body(BatchGetCardsRequest.builder().ids(List.of(card.getId(), missingId)).build())
+                    .post("/api/v1/cards:batchGet");
+
+            response.prettyPrint();
+
+            var path = "cards.'" + card.getId() + "'";
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("cards.size()", equalTo(1))
+                    .body(path + ".id", equalTo(card.getId().toString()))
+                    .body(path + ".pan", equalTo(unmask ? card.getPan() : "*************"))
+                    .body(path + ".cvv", equalTo(unmask ? card.getCvv() : "***"))
+                    .body("notFound", contains(missingId.toString()));
+        }
+
+        @Test
+        void shouldReturnBadRequestForEmptyBatch() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .contentType(ContentType.JSON)
+                    .body(BatchGetCardsRequest.builder().ids(List.of()).build())
+                    .post("/api/v1/cards:batchGet");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "Statement count")
+    class StatementCount {
+        @BeforeEach
+        public void setUp() {
+            QueryCountHolder.clear();
+        }
+
+        @Test
+        void shouldDeleteWithOneStatement() {
+            service.deleteCard(card.getId());
+
+            var count = QueryCountHolder.getGrandTotal();
+            assertAll(
+                    () -> assertThat(count.getTotal())
+                            .isEqualTo(1),
+                    () -> assertThat(count.getDelete())
+                            .isEqualTo(1),
+                    () -> assertThat(repository.existsById(card.getId()))
+                            .isFalse()
+            );
+        }
+
+        @Test
+        void shouldDetectMissingCardOnDeleteWithOneStatement() {
+            assertThatThrownBy(() -> service.deleteCard(UUID.randomUUID()))
+                    .isInstanceOf(CardNotFoundException.class);
+
+            assertThat(QueryCountHolder.getGrandTotal().getTotal())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "Row size")
+    class RowSize {
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Test
+        void shouldReadFewerBytesPerRowThanTheFullRow() {
+            // The full row (searchable included) is what loading a Card read while the tsvector was mapped.
+            var persister = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getMappingMetamodel()
+                    .getEntityDescriptor(Card.class);
+            var columns = new LinkedHashSet<String>();
+            persister.getIdentifierMapping()
+                    .forEachSelectable((_, column) -> columns.add(column.getSelectionExpression()));
+            persister.forEachSelectable((_, column) -> columns.add(column.getSelectionExpression()));
+
+            var bytesPerFullRow = jdbcTemplate.queryForObject(
+                    "select avg(pg_column_size(t.*)) from cards t",
+                    Double.class
+            );
+            var bytesPerMappedRow = jdbcTemplate.queryForObject(
+                    "select avg(pg_column_size(t.*)) from (select " + String.join(", ", columns) + " from cards) t",
+                    Double.class
+            );
+
+            assertThat(columns).doesNotContain("searchable");
+            assertThat(bytesPerMappedRow)
+                    .as("bytes per row: %s with searchable, %s without", bytesPerFullRow, bytesPerMappedRow)
+                    .isLessThan(bytesPerFullRow);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,26 @@
 package com.github.ajharry69.card.service.card;
 
 
+import com.github.ajharry69.card.cache.CacheNames;
 import com.github.ajharry69.card.exceptions.CardNotFoundException;
 import com.github.ajharry69.card.exceptions.CardTypeAlreadyExistsException;
+import com.github.ajharry69.card.service.card.data.CardAccountType;
 import com.github.ajharry69.card.service.card.data.CardFilter;
 import com.github.ajharry69.card.service.card.data.CardRepository;
 import com.github.ajharry69.card.service.card.data.CardSpecification;
 import com.github.ajharry69.card.service.card.models.Card;
 import com.github.ajharry69.card.service.card.models.CardMapper;
+import com.github.ajharry69.card.service.card.models.CardType;
+import com.github.ajharry69.card.service.card.models.dtos.CardResponse;
 import com.github.ajharry69.card.service.card.models.dtos.CreateCardRequest;
+import com.github.ajharry69.card.service.card.models.dtos.CreateCardResult;
 import com.github.ajharry69.card.service.card.models.dtos.UpdateCardRequest;
+import com.github.ajharry69.exceptions.InvalidFieldsException;
+import com.github.ajharry69.pagination.CountMode;
+import com.github.ajharry69.pagination.PageCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import net.datafaker.Faker;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,25 +30,40 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mapstruct.factory.Mappers;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class CardServiceTest {
     private static final Faker faker = new Faker();
     private final CardMapper cardMapper = Mappers.getMapper(CardMapper.class);
     private final CardRepository repository = mock(CardRepository.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PageCounter pageCounter = new PageCounter(Duration.ofMinutes(1), 100);
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     private CardService service;
 
@@ -51,7 +77,7 @@ class CardServiceTest {
 
     @BeforeEach
     public void setUp() {
-        service = new CardService(cardMapper, repository);
+        service = new CardService(cardMapper, repository, cacheManager, meterRegistry, pageCounter, validator);
     }
 
     @Nested
@@ -90,6 +116,51 @@ class CardServiceTest {
                             .isNotEmpty()
             );
         }
+
+        @Test
+        void shouldNotCount_WhenCountModeIsNone() {
+            // Given
+            var pageable = PageRequest.of(0, 1);
+            when(repository.findSlice(any(CardSpecification.class), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(List.of(Card.builder().build()), pageable, true));
+
+            // When
+            var actual = service.getCards(pageable, CardFilter.builder().build(), CountMode.NONE);
+
+            // Then
+            assertAll(
+                    () -> verify(repository, never())
+                            .findAll(any(CardSpecification.class), any(Pageable.class)),
+                    () -> verify(repository, never())
+                            .count(any(CardSpecification.class)),
+                    () -> assertThat(actual.hasNext())
+                            .isTrue(),
+                    () -> assertThat(actual.getTotalElements())
+                            .isEqualTo(2)
+            );
+        }
+
+        @Test
+        void shouldCountOnce_WhenCountModeIsCachedAndFilterIsRepeated() {
+            // Given
+            var pageable = PageRequest.of(0, 1);
+            when(repository.findSlice(any(CardSpecification.class), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(List.of(Card.builder().build()), pageable, true));
+            when(repository.count(any(CardSpecification.class)))
+                    .thenReturn(42L);
+
+            // When
+            service.getCards(pageable, CardFilter.builder().alias("John").build(), CountMode.CACHED);
+            var actual = service.getCards(pageable, CardFilter.builder().alias("John").build(), CountMode.CACHED);
+
+            // Then
+            assertAll(
+                    () -> verify(repository, times(1))
+                            .count(any(CardSpecification.class)),
+                    () -> assertThat(actual.getTotalElements())
+                            .isEqualTo(42)
+            );
+        }
     }
 
     @Nested
@@ -150,22 +221,19 @@ class CardServiceTest {
         @Test
         void shouldThrowCardNotFoundException_IfCardIsNotAvailable() {
             // Given
-            when(repository.existsById(any()))
-                    .thenReturn(false);
+            when(repository.deleteByIdReturningCount(any()))
+                    .thenReturn(0);
 
             // When
-            assertAll(
-                    () -> verify(repository, never()).save(any()),
-                    () -> assertThatThrownBy(() -> service.deleteCard(UUID.randomUUID()))
-                            .isInstanceOf(CardNotFoundException.class)
-            );
+            assertThatThrownBy(() -> service.deleteCard(UUID.randomUUID()))
+                    .isInstanceOf(CardNotFoundException.class);
         }
 
         @Test
         void shouldDelete_IfCardIsAvailable() {
             // Given
-            when(repository.existsById(any()))
-                    .thenReturn(true);
+            when(repository.deleteByIdReturningCount(any()))
+                    .thenReturn(1);
 
             // When
             UUID cardId = UUID.randomUUID();
@@ -173,7 +241,8 @@ class CardServiceTest {
 
             // Then
             var argumentCaptor = ArgumentCaptor.forClass(UUID.class);
-            verify(repository, times(1)).deleteById(argumentCaptor.capture());
+            verify(repository, times(1)).deleteByIdReturningCount(argumentCaptor.capture());
+            verify(repository, never()).existsById(any());
 
             var id = argumentCaptor.getValue();
             assertThat(id)
@@ -181,6 +250,36 @@ class CardServiceTest {
         }
     }
 
+    @Nested
+    class DeleteCardsByAccountId {
+        @Test
+        void shouldDeleteInOneStatementAndEvictCachedCards() {
+            // Given
+            UUID cardId = UUID.randomUUID();
+            var cache = cacheManager.getCache(CacheNames.CARDS);
+            cache.put(cardId + ":true", "unmasked");
+            cache.put(cardId + ":false", "masked");
+            when(repository.deleteByAccountIdInReturningId(any()))
+                    .thenReturn(List.of(cardId, UUID.randomUUID()));
+
+            // When
+            var actual = service.deleteCardsByAccountId(UUID.randomUUID());
+
+            // Then
+            assertAll(
+                    () -> assertThat(actual)
+                            .isEqualTo(2),
+                    () -> verify(repository, never()).deleteById(any()),
+                    () -> assertThat(cache.get(cardId + ":true"))
+                            .isNull(),
+                    () -> assertThat(cache.get(cardId + ":false"))
+                            .isNull(),
+                    () -> assertThat(meterRegistry.summary("cards.cascade.deleted").totalAmount())
+                            .isEqualTo(2)
+            );
+        }
+    }
+
     @Nested
     class UpdateCard {
         @Test
@@ -239,6 +338,123 @@ class CardServiceTest {
         }
     }
 
+    @Nested
+    class GetCardsProjection {
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        void shouldSelectRequestedFieldsOnly_AndNeverReadMaskedFields(boolean unmask) {
+            // Given
+            var id = UUID.randomUUID();
+            var pan = pan();
+            var pageable = PageRequest.of(0, 20);
+            when(repository.findProjectedSlice(any(CardSpecification.class), any(), any(Pageable.class)))
+                    .thenAnswer(invocation -> {
+                        Collection<String> attributes = invocation.getArgument(1);
+                        var values = new HashMap<String, Object>();
+                        values.put("id", id);
+                        if (attributes.contains("pan")) {
+                            values.put("pan", pan);
+                        }
+                        return new SliceImpl<>(List.of(values), pageable, false);
+                    });
+
+            // When
+            var actual = service.getCards(
+                    pageable,
+                    CardFilter.builder().unmask(unmask).build(),
+                    CountMode.EXACT,
+                    List.of("pan")
+            );
+
+            // Then
+            verify(repository, times(1))
+                    .findProjectedSlice(
+                            any(CardSpecification.class),
+                            eq(unmask ? Set.of("id", "pan") : Set.of("id")),
+                            any(Pageable.class)
+                    );
+            verify(repository, never())
+                    .findAll(any(CardSpecification.class), any(Pageable.class));
+            assertThat(actual.getContent())
+                    .singleElement()
+                    .satisfies(card -> {
+                        assertThat(card.id()).isEqualTo(id);
+                        assertThat(card.pan()).isEqualTo(unmask ? pan : CardMapper.MASKED_PAN);
+                        assertThat(card.alias()).isNull();
+                        assertThat(card.cvv()).isNull();
+                    });
+        }
+
+        @Test
+        void shouldThrowInvalidFieldsException_WhenFieldIsUnknown() {
+            // Given
+            var filter = CardFilter.builder().build();
+
+            // When
+            // Then
+            assertThatThrownBy(() -> service.getCards(Pageable.unpaged(), filter, CountMode.EXACT, List.of("searchable")))
+                    .isInstanceOf(InvalidFieldsException.class);
+        }
+    }
+
+    @Nested
+    class CreateCards {
+        private CreateCardRequest request(UUID accountId, CardType type) {
+            return CreateCardRequest.builder()
+                    .alias("First")
+                    .pan(pan())
+                    .cvv(cvv())
+                    .type(type)
+                    .accountId(accountId)
+                    .build();
+        }
+
+        @Test
+        void shouldReportEachItem_AndCheckExistingCardTypesOnce() {
+            // Given
+            var accountId = UUID.randomUUID();
+            var existing = mock(CardAccountType.class);
+            when(existing.getAccountId()).thenReturn(accountId);
+            when(existing.getType()).thenReturn(CardType.VIRTUAL);
+            when(repository.findByAccountIdIn(any()))
+                    .thenReturn(List.of(existing));
+            when(repository.saveAll(ArgumentMatchers.<Card>anyList()))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            var actual = service.createCards(
+                    List.of(
+                            request(accountId, CardType.PHYSICAL),
+                            request(accountId, CardType.VIRTUAL),
+                            request(accountId, CardType.PHYSICAL),
+                            request(accountId, null)
+                    )
+            );
+
+            // Then
+            assertAll(
+                    () -> verify(repository, times(1))
+                            .findByAccountIdIn(Set.of(accountId)),
+                    () -> verify(repository, never())
+                            .existsByAccountIdAndType(any(), any()),
+                    () -> verify(repository, times(1))
+                            .saveAll(ArgumentMatchers.<Card>anyList()),
+                    () -> assertThat(actual.created())
+                            .isEqualTo(1),
+                    () -> assertThat(actual.results())
+                            .extracting(CreateCardResult::status)
+                            .containsExactly(
+                                    CreateCardResult.Status.CREATED,
+                                    CreateCardResult.Status.CARD_TYPE_ALREADY_EXISTS,
+                                    CreateCardResult.Status.CARD_TYPE_ALREADY_EXISTS,
+                                    CreateCardResult.Status.INVALID
+                            ),
+                    () -> assertThat(actual.results().get(3).errors())
+                            .containsExactly("type: must not be null")
+            );
+        }
+    }
+
     @Nested
     class CreateCard {
         @Test
@@ -289,4 +505,83 @@ class CardServiceTest {
             );
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class GetCardsByIds {
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        void shouldKeyFoundCardsById_AndReportMissingIds(boolean unmask) {
+            // Given
+            var card = Card.builder()
+                    .id(UUID.randomUUID())
+                    .alias("John Doe")
+                    .pan(pan())
+                    .cvv(cvv())
+                    .type(CardType.VIRTUAL)
+                    .accountId(UUID.randomUUID())
+                    .build();
+            var missingId = UUID.randomUUID();
+            when(repository.findAllByIdArray(any()))
+                    .thenReturn(List.of(card));
+
+            // When
+            var actual = service.getCards(List.of(missingId, card.getId(), card.getId()), unmask);
+
+            // Then
+            var idsCaptor = ArgumentCaptor.forClass(UUID[].class);
+            verify(repository, times(1)).findAllByIdArray(idsCaptor.capture());
+            assertAll(
+                    () -> assertThat(idsCaptor.getValue())
+                            .containsExactly(missingId, card.getId()),
+                    () -> assertThat(actual.cards())
+                            .containsOnlyKeys(card.getId()),
+                    () -> assertThat(actual.cards().get(card.getId()).pan())
+                            .isEqualTo(unmask ? card.getPan() : "*************"),
+                    () -> assertThat(actual.cards().get(card.getId()).cvv())
+                            .isEqualTo(unmask ? card.getCvv() : "***"),
+                    () -> assertThat(actual.notFound())
+                            .containsExactly(missingId)
+            );
+        }
+    }
+
+    @Nested
+    class ExportCards {
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        void shouldPassEachCardToAction_MaskedUnlessUnmaskIsRequested(boolean unmask) {
+            // Given
+            var card = Card.builder()
+                    .id(UUID.randomUUID())
+                    .alias("John Doe")
+                    .pan(pan())
+                    .cvv(cvv())
+                    .type(CardType.VIRTUAL)
+                    .accountId(UUID.randomUUID())
+                    .build();
+            when(repository.forEach(any(CardSpecification.class), eq(100), any()))
+                    .thenAnswer(invocation -> {
+                        Consumer<Card> action = invocation.getArgument(2);
+                        action.accept(card);
+                        return 1L;
+                    });
+            var exported = new ArrayList<CardResponse>();
+
+            // When
+            var actual = service.exportCards(CardFilter.builder().unmask(unmask).build(), 100, exported::add);
+
+            // Then
+            assertAll(
+                    () -> assertThat(actual)
+                            .isEqualTo(1),
+                    () -> assertThat(exported)
+                            .singleElement()
+                            .satisfies(response -> {
+                                assertThat(response.id()).isEqualTo(card.getId());
+                                assertThat(response.pan()).isEqualTo(unmask ? card.getPan() : "*************");
+                                assertThat(response.cvv()).isEqualTo(unmask ? card.getCvv() : "***");
+                            })
+            );
+        }
+    }
+}
@@ -9,6 +9,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-amqp")
     implementation("org.springframework.boot:spring-boot-starter-batch")
     implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-data-rest")
@@ -52,5 +53,6 @@ dependencies {
     testImplementation("org.testcontainers:rabbitmq")
     testImplementation("io.rest-assured:rest-assured:${property("restAssuredVersion")}")
     testImplementation("net.datafaker:datafaker:${property("datafakerVersion")}")
+    testImplementation("com.github.gavlyukovskiy:datasource-proxy-spring-boot-starter:${property("datasourceProxyVersion")}")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
@@ -0,0 +1,41 @@
+package com.github.ajharry69.customer.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Caches typeahead suggestions in a bounded, replica-local Caffeine cache. Entries are not evicted when customers
+ * change, so the time-to-live doubles as the staleness bound and is kept short.
+ */
+@Configuration
+@EnableCaching
+class CacheConfig {
+    @Bean
+    CacheManager cacheManager(
+            MeterRegistry meterRegistry,
+            @Value("${application.config.cache.customer-suggestions.maximum-size:10000}") long maximumSize,
+            @Value("${application.config.cache.customer-suggestions.time-to-live:PT10S}") Duration timeToLive
+    ) {
+        var cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CacheNames.CUSTOMER_SUGGESTIONS);
+
+        var cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(new CaffeineCache(CacheNames.CUSTOMER_SUGGESTIONS, cache, false)));
+        return cacheManager;
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.ajharry69.customer.cache;
+
+public final class CacheNames {
+    /**
+     * Typeahead {@link com.github.ajharry69.customer.service.customer.models.dtos.CustomerResponse}s keyed by
+     * {@code <normalized prefix>:<limit>}.
+     */
+    public static final String CUSTOMER_SUGGESTIONS = "customer-suggestions";
+
+    private CacheNames() {
+    }
+}
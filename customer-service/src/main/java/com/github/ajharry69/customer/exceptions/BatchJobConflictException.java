@@ -0,0 +1,10 @@
+package com.github.ajharry69.customer.exceptions;
+
+import com.github.ajharry69.exceptions.DTBException;
+import org.springframework.http.HttpStatus;
+
+public class BatchJobConflictException extends DTBException {
+    public BatchJobConflictException() {
+        super(HttpStatus.CONFLICT, "BATCH_JOB_CONFLICT");
+    }
+}
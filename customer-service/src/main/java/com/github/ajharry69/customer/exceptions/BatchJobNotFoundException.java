@@ -0,0 +1,10 @@
+package com.github.ajharry69.customer.exceptions;
+
+import com.github.ajharry69.exceptions.DTBException;
+import org.springframework.http.HttpStatus;
+
+public class BatchJobNotFoundException extends DTBException {
+    public BatchJobNotFoundException() {
+        super(HttpStatus.NOT_FOUND, "BATCH_JOB_NOT_FOUND");
+    }
+}
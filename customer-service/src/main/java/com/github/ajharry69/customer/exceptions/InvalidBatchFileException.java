@@ -0,0 +1,10 @@
+package com.github.ajharry69.customer.exceptions;
+
+import com.github.ajharry69.exceptions.DTBException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidBatchFileException extends DTBException {
+    public InvalidBatchFileException() {
+        super(HttpStatus.BAD_REQUEST, "INVALID_BATCH_FILE");
+    }
+}
@@ -15,7 +15,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 @FeignClient(
         name = "account-service",
-        url = "${application.config.gateway.url:http://localhost:8080}/api/v1/accounts",
+        url = "${application.config.clients.account-service.url:${application.config.gateway.url:http://localhost:8080}}",
+        path = "/api/v1/accounts",
         configuration = {DTBFeignClientConfig.class}
 )
 public interface AccountClient {
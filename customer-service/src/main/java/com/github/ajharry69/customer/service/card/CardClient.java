@@ -0,0 +1,23 @@
+package com.github.ajharry69.customer.service.card;
+
+import com.github.ajharry69.autoconfigure.DTBFeignClientConfig;
+import com.github.ajharry69.customer.service.card.data.CardFilter;
+import com.github.ajharry69.customer.service.card.models.dtos.CardResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.cloud.openfeign.SpringQueryMap;
+import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.web.bind.annotation.GetMapping;
+
+@FeignClient(
+        name = "card-service",
+        url = "${application.config.clients.card-service.url:${application.config.gateway.url:http://localhost:8080}}",
+        path = "/api/v1/cards",
+        configuration = {DTBFeignClientConfig.class}
+)
+public interface CardClient {
+
+    @GetMapping
+    PagedModel<EntityModel<CardResponse>> getCards(@SpringQueryMap CardFilter filter, Pageable pageable);
+}
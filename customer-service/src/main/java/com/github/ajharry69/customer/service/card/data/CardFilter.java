@@ -0,0 +1,15 @@
+package com.github.ajharry69.customer.service.card.data;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class CardFilter {
+    private UUID accountId;
+}
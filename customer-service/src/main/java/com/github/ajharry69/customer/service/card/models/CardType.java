@@ -0,0 +1,6 @@
+package com.github.ajharry69.customer.service.card.models;
+
+public enum CardType {
+    VIRTUAL,
+    PHYSICAL
+}
@@ -3,22 +3,31 @@ package com.github.ajharry69.customer.service.customer;
 import com.github.ajharry69.customer.service.account.AccountController;
 import com.github.ajharry69.customer.service.account.data.AccountFilter;
 import com.github.ajharry69.customer.service.customer.models.dtos.CustomerResponse;
+import com.github.ajharry69.hateoas.LinkTemplate;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 public class CustomerAssembler implements RepresentationModelAssembler<CustomerResponse, EntityModel<CustomerResponse>> {
+    private static final LinkRelation ACCOUNTS = LinkRelation.of("accounts");
+    private static final LinkTemplate SELF = LinkTemplate.of(
+            id -> linkTo(methodOn(CustomerController.class).getCustomer(id))
+    );
+    private static final LinkTemplate ACCOUNTS_LINK = LinkTemplate.of(
+            id -> linkTo(
+                    methodOn(AccountController.class)
+                            .getAccounts(id, AccountFilter.builder().build(), null)
+            )
+    );
+
     @Override
     public EntityModel<CustomerResponse> toModel(CustomerResponse entity) {
         return EntityModel.of(entity)
-                .add(linkTo(methodOn(CustomerController.class).getCustomer(entity.id())).withSelfRel())
-                .add(
-                        linkTo(
-                                methodOn(AccountController.class)
-                                        .getAccounts(entity.id(), AccountFilter.builder().build(), null)
-                        ).withRel("accounts")
-                );
+                .add(SELF.toLink(entity.id(), IanaLinkRelations.SELF))
+                .add(ACCOUNTS_LINK.toLink(entity.id(), ACCOUNTS));
     }
-}
\ No newline at end of file
+}
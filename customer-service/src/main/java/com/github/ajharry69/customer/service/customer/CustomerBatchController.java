@@ -0,0 +1,176 @@
+package com.github.ajharry69.customer.service.customer;
+
+import com.github.ajharry69.SecuritySchemeName;
+import com.github.ajharry69.customer.service.customer.batch.CustomerBatchService;
+import com.github.ajharry69.customer.service.customer.models.dtos.BatchJobRequest;
+import com.github.ajharry69.customer.service.customer.models.dtos.BatchJobResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.mediatype.problem.Problem;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Custom-method style ({@code /customers:import}, {@code /customers:export}) endpoints for bulk loads, which cannot
+ * be mapped under {@link CustomerController}'s {@code /api/v1/customers} prefix without a separating slash.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Customers", description = "Operations related to customers")
+public class CustomerBatchController {
+    private final CustomerBatchService service;
+
+    private static ResponseEntity<BatchJobResponse> accepted(BatchJobResponse job) {
+        var location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/customers/jobs/{jobId}")
+                .buildAndExpand(job.id())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @PostMapping(value = "/customers:import", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Import customers",
+            description = "Starts a background job that imports customers from a CSV (`firstName,lastName,otherName` "
+                    + "header) or NDJSON file in the service's batch directory. Invalid records are filtered out and "
+                    + "malformed lines skipped. Re-submitting a failed import resumes it from its last committed chunk."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "Import started",
+                            headers = {
+                                    @Header(name = "Location")
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid request payload or unreadable file",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "The file is already being, or has already been, imported",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_customer.create')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"customer.create"})
+    public ResponseEntity<BatchJobResponse> importCustomers(@RequestBody @Valid BatchJobRequest request) {
+        return accepted(service.importCustomers(request.file(), request.format()));
+    }
+
+    @PostMapping(value = "/customers:export", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Export customers",
+            description = "Starts a background job that streams all customers to a CSV or NDJSON file in the "
+                    + "service's batch directory, replacing the file if it exists."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "Export started",
+                            headers = {
+                                    @Header(name = "Location")
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid request payload or file name",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_customer.create')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"customer.create"})
+    public ResponseEntity<BatchJobResponse> exportCustomers(@RequestBody @Valid BatchJobRequest request) {
+        return accepted(service.exportCustomers(request.file(), request.format()));
+    }
+
+    @GetMapping(value = "/customers/jobs/{jobId}", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Get the progress of a customer import or export")
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval"
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Job not found",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_customer.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"customer.read"})
+    public BatchJobResponse getJob(@PathVariable long jobId) {
+        return service.getJob(jobId);
+    }
+}
@@ -4,6 +4,13 @@ import com.github.ajharry69.SecuritySchemeName;
 import com.github.ajharry69.customer.service.customer.data.CustomerFilter;
 import com.github.ajharry69.customer.service.customer.models.dtos.CustomerRequest;
 import com.github.ajharry69.customer.service.customer.models.dtos.CustomerResponse;
+import com.github.ajharry69.pagination.CountMode;
+import com.github.ajharry69.pagination.CountedPagedModels;
+import com.github.ajharry69.pagination.KeysetCursor;
+import com.github.ajharry69.pagination.KeysetModels;
+import com.github.ajharry69.pagination.LeanPage;
+import com.github.ajharry69.pagination.LeanPages;
+import com.github.ajharry69.pagination.Projections;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,6 +23,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
@@ -26,6 +34,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -33,11 +43,17 @@ import java.util.UUID;
 @RequestMapping("/api/v1/customers")
 @Tag(name = "Customers", description = "Operations related to customers")
 public class CustomerController {
+    static final int MAX_SEARCH_LIMIT = 100;
+    static final int MAX_SUGGESTIONS = 20;
     private final CustomerService service;
     private final PagedResourcesAssembler<CustomerResponse> customerPageAssembler;
 
-    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE})
-    @Operation(summary = "Get customers")
+    @GetMapping(params = "!" + KeysetCursor.PARAMETER, produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Get customers",
+            description = "`count` selects how `page.totalElements` is obtained: `EXACT` (default), `CACHED` or `NONE`. " +
+                    "`fields` (e.g. `fields=firstName,lastName`) limits each element to the listed fields and its `id`."
+    )
     @ApiResponses(
             {
                     @ApiResponse(
@@ -60,15 +76,177 @@ public class CustomerController {
     @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"customer.read"})
     public PagedModel<EntityModel<CustomerResponse>> getCustomers(
             @ModelAttribute CustomerFilter filter,
+            @RequestParam(name = CountMode.PARAMETER, defaultValue = "EXACT")
+            CountMode count,
+            @RequestParam(name = Projections.PARAMETER, required = false)
+            Set<String> fields,
             Pageable pageable
     ) {
-        var customers = service.getCustomers(pageable, filter);
-        return customerPageAssembler.toModel(
-                customers,
-                new CustomerAssembler()
+        var customers = service.getCustomers(pageable, filter, count, fields);
+        return CountedPagedModels.withCount(
+                customerPageAssembler.toModel(
+                        customers,
+                        new CustomerAssembler()
+                ),
+                count
         );
     }
 
+    @GetMapping(params = "!" + KeysetCursor.PARAMETER, produces = {LeanPages.MEDIA_TYPE_VALUE})
+    @Operation(
+            summary = "Get customers without per-element links",
+            description = "Same page as `application/json`, with the customers as a plain `content` array and only the " +
+                    "page's `links`."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval."
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_customer.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"customer.read"})
+    public LeanPage<CustomerResponse> getCustomersLean(
+            @ModelAttribute CustomerFilter filter,
+            @RequestParam(name = CountMode.PARAMETER, defaultValue = "EXACT")
+            CountMode count,
+            @RequestParam(name = Projections.PARAMETER, required = false)
+            Set<String> fields,
+            Pageable pageable
+    ) {
+        var customers = service.getCustomers(pageable, filter, count, fields);
+        return LeanPages.of(customers, customerPageAssembler, count);
+    }
+
+    @GetMapping(params = KeysetCursor.PARAMETER, produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Get customers after a cursor",
+            description = "Newest first. Pass an empty `cursor` for the first page, then follow the `next` link."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval."
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid cursor",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_customer.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"customer.read"})
+    public CollectionModel<EntityModel<CustomerResponse>> getCustomersAfter(
+            @ModelAttribute CustomerFilter filter,
+            @RequestParam(KeysetCursor.PARAMETER) String cursor,
+            Pageable pageable
+    ) {
+        var customers = service.getCustomers(KeysetCursor.scrollPosition(cursor), pageable.getPageSize(), filter);
+        return KeysetModels.toModel(customers, new CustomerAssembler());
+    }
+
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Search customers by name",
+            description = "Best matches first, at most `limit` (capped at " + MAX_SEARCH_LIMIT + ")."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval."
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_customer.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"customer.read"})
+    public CollectionModel<EntityModel<CustomerResponse>> searchCustomers(
+            @RequestParam
+            String q,
+            @RequestParam(required = false, defaultValue = "20")
+            int limit
+    ) {
+        var customers = service.searchCustomers(q, Math.clamp(limit, 1, MAX_SEARCH_LIMIT));
+        return new CustomerAssembler().toCollectionModel(customers);
+    }
+
+    @GetMapping(value = "/search/suggest", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Suggest customers by name prefix",
+            description = "Customers whose first or last name starts with `q`, at most `limit` (capped at "
+                    + MAX_SUGGESTIONS + "). Prefixes shorter than " + CustomerService.MIN_SUGGESTION_PREFIX_LENGTH
+                    + " characters match nothing. Results may be a few seconds stale."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval."
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_customer.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"customer.read"})
+    public CollectionModel<EntityModel<CustomerResponse>> suggestCustomers(
+            @RequestParam
+            String q,
+            @RequestParam(required = false, defaultValue = "10")
+            int limit
+    ) {
+        var prefix = q.strip().toLowerCase(Locale.ROOT);
+        var customers = service.suggestCustomers(prefix, Math.clamp(limit, 1, MAX_SUGGESTIONS));
+        return new CustomerAssembler().toCollectionModel(customers);
+    }
+
     @PostMapping(produces = {MediaType.APPLICATION_JSON_VALUE})
     @Operation(summary = "Create customer")
     @ApiResponses(
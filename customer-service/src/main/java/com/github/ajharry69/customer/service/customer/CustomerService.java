@@ -1,5 +1,6 @@
 package com.github.ajharry69.customer.service.customer;
 
+import com.github.ajharry69.customer.cache.CacheNames;
 import com.github.ajharry69.customer.exceptions.CustomerNotFoundException;
 import com.github.ajharry69.customer.service.customer.data.CustomerFilter;
 import com.github.ajharry69.customer.service.customer.data.CustomerRepository;
@@ -10,32 +11,123 @@ import com.github.ajharry69.customer.service.customer.models.Customer;
 import com.github.ajharry69.customer.service.customer.models.CustomerMapper;
 import com.github.ajharry69.customer.service.customer.models.dtos.CustomerRequest;
 import com.github.ajharry69.customer.service.customer.models.dtos.CustomerResponse;
+import com.github.ajharry69.pagination.CountMode;
+import com.github.ajharry69.pagination.KeysetCursor;
+import com.github.ajharry69.pagination.PageCounter;
+import com.github.ajharry69.pagination.Projections;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class CustomerService {
+    /**
+     * Shorter prefixes yield too few trigrams for the name indexes to be selective.
+     */
+    public static final int MIN_SUGGESTION_PREFIX_LENGTH = 3;
     private final CustomerMapper customerMapper;
     private final CustomerRepository repository;
     private final CustomerMessagingService customerMessagingService;
+    private final PageCounter pageCounter;
 
     public Page<CustomerResponse> getCustomers(Pageable pageable, CustomerFilter filter) {
+        return getCustomers(pageable, filter, CountMode.EXACT);
+    }
+
+    public Page<CustomerResponse> getCustomers(Pageable pageable, CustomerFilter filter, CountMode countMode) {
         log.info("Getting customers with filter: {}...", filter);
         var specification = new CustomerSpecification(filter);
-        Page<CustomerResponse> page = repository.findAll(specification, pageable)
+        Page<CustomerResponse> page = pageCounter.findAll(repository, specification, filter, pageable, countMode)
                 .map(customerMapper::toResponse);
         log.info("Found {} customers with filter: {}", page.getNumberOfElements(), filter);
         return page;
     }
 
+    /**
+     * Same as {@link #getCustomers(Pageable, CustomerFilter, CountMode)}, but only reading the {@code fields} of each
+     * customer (see {@link Projections}).
+     */
+    public Page<CustomerResponse> getCustomers(
+            Pageable pageable,
+            CustomerFilter filter,
+            CountMode countMode,
+            Collection<String> fields
+    ) {
+        var attributes = Projections.attributes(fields, CustomerResponse.class);
+        if (attributes == null) {
+            return getCustomers(pageable, filter, countMode);
+        }
+
+        log.info("Getting {} of customers with filter: {}...", attributes, filter);
+        var specification = new CustomerSpecification(filter);
+        Page<CustomerResponse> page = pageCounter
+                .findAll(repository, specification, attributes, filter, pageable, countMode)
+                .map(customerMapper::toProjectedResponse);
+        log.info("Found {} customers with filter: {}", page.getNumberOfElements(), filter);
+        return page;
+    }
+
+    /**
+     * Seeks to the {@code size} newest customers after {@code position} (see {@link KeysetCursor}) without
+     * computing a total count.
+     */
+    public Window<CustomerResponse> getCustomers(ScrollPosition position, int size, CustomerFilter filter) {
+        log.info("Getting customers after {} with filter: {}...", position, filter);
+        var specification = new CustomerSpecification(filter);
+        Window<Customer> customers = repository.findBy(
+                specification,
+                query -> query.sortBy(KeysetCursor.SORT)
+                        .limit(size)
+                        .scroll(position)
+        );
+        Window<CustomerResponse> window = customers.map(customerMapper::toResponse);
+        log.info("Found {} customers with filter: {}", window.size(), filter);
+        return window;
+    }
+
+    public List<CustomerResponse> searchCustomers(String query, int limit) {
+        log.info("Searching for the top {} customers matching: {}...", limit, query);
+        List<CustomerResponse> customers = repository.searchByName(query, limit)
+                .stream()
+                .map(customerMapper::toResponse)
+                .toList();
+        log.info("Found {} customers matching: {}", customers.size(), query);
+        return customers;
+    }
+
+    /**
+     * @param prefix lower-cased, trimmed prefix of a first or last name.
+     */
+    @Cacheable(cacheNames = CacheNames.CUSTOMER_SUGGESTIONS, key = "#prefix + ':' + #limit")
+    public List<CustomerResponse> suggestCustomers(String prefix, int limit) {
+        if (prefix.length() < MIN_SUGGESTION_PREFIX_LENGTH) {
+            return List.of();
+        }
+
+        var pattern = prefix.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        List<CustomerResponse> customers = repository.suggestByNamePrefix(prefix, pattern, limit)
+                .stream()
+                .map(customerMapper::toResponse)
+                .toList();
+        log.debug("Found {} customers with a name starting with: {}", customers.size(), prefix);
+        return customers;
+    }
+
     @Transactional
     public CustomerResponse createCustomer(CustomerRequest request) {
         log.info("Creating customer: {}", request);
@@ -56,14 +148,24 @@ public class CustomerService {
         return response;
     }
 
+    /**
+     * Updates the customer with one statement; a customer that does not exist is detected from the number of
+     * updated rows rather than looked up beforehand.
+     */
     @Transactional
     public CustomerResponse updateCustomer(UUID customerId, CustomerRequest request) {
         log.info("Updating customer with id: {} with request: {}", customerId, request);
-        checkExistsByIdOrThrow(customerId);
+        int updated = repository.updateById(
+                customerId,
+                request.firstName(),
+                request.lastName(),
+                request.otherName(),
+                OffsetDateTime.now()
+        );
+        checkAffectedOrThrow(updated, customerId);
 
-        Customer entity = customerMapper.toEntity(request);
-        entity.setId(customerId);
-        Customer customer = repository.save(entity);
+        Customer customer = customerMapper.toEntity(request);
+        customer.setId(customerId);
         CustomerResponse response = customerMapper.toResponse(customer);
         log.info("Updated customer: {}", response);
         return response;
@@ -72,15 +174,15 @@ public class CustomerService {
     @Transactional
     public void deleteCustomer(UUID customerId) {
         log.info("Deleting customer with id: {}", customerId);
-        checkExistsByIdOrThrow(customerId);
+        int deleted = repository.deleteByIdReturningCount(customerId);
+        checkAffectedOrThrow(deleted, customerId);
 
-        repository.deleteById(customerId);
         customerMessagingService.sendCustomerDeletedEvent(new CustomerDeletedEvent(customerId));
         log.info("Deleted customer with id: {}", customerId);
     }
 
-    private void checkExistsByIdOrThrow(UUID customerId) {
-        if (!repository.existsById(customerId)) {
+    private void checkAffectedOrThrow(int affected, UUID customerId) {
+        if (affected == 0) {
             log.info("Customer with id: {} not found", customerId);
             throw new CustomerNotFoundException();
         }
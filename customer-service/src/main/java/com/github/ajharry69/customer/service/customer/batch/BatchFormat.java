@@ -0,0 +1,18 @@
+package com.github.ajharry69.customer.service.customer.batch;
+
+/**
+ * File formats understood by the customer import/export jobs.
+ */
+public enum BatchFormat {
+    /**
+     * Comma-separated values with a {@code firstName,lastName,otherName} header row on import and an
+     * {@code id,firstName,lastName,otherName} header row on export.
+     */
+    CSV,
+    /**
+     * Newline-delimited JSON: one {@link com.github.ajharry69.customer.service.customer.models.dtos.CustomerRequest}
+     * (on import) or {@link com.github.ajharry69.customer.service.customer.models.dtos.CustomerResponse} (on export)
+     * object per line.
+     */
+    NDJSON
+}
@@ -0,0 +1,58 @@
+package com.github.ajharry69.customer.service.customer.batch;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes the item counts of the most recent execution of every step it listens to as
+ * {@code customers.batch.items} gauges tagged by {@code step} and {@code outcome}, so that the progress of a
+ * long-running import or export can be followed while it is still running.
+ * <p>
+ * The counts are read straight off the live {@link StepExecution}, which the step updates after every chunk.
+ */
+class BatchProgressMetrics implements StepExecutionListener {
+    static final String METRIC_NAME = "customers.batch.items";
+    private static final Map<String, ToLongFunction<StepExecution>> OUTCOMES = Map.of(
+            "read", StepExecution::getReadCount,
+            "written", StepExecution::getWriteCount,
+            "filtered", StepExecution::getFilterCount,
+            "skipped", StepExecution::getSkipCount,
+            "commits", StepExecution::getCommitCount
+    );
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicReference<StepExecution>> executions = new ConcurrentHashMap<>();
+
+    BatchProgressMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        executions.computeIfAbsent(stepExecution.getStepName(), this::register).set(stepExecution);
+    }
+
+    private AtomicReference<StepExecution> register(String stepName) {
+        var execution = new AtomicReference<StepExecution>();
+        OUTCOMES.forEach((outcome, count) -> Gauge.builder(
+                        METRIC_NAME,
+                        execution,
+                        reference -> {
+                            var stepExecution = reference.get();
+                            return stepExecution == null ? 0 : count.applyAsLong(stepExecution);
+                        }
+                )
+                .tag("step", stepName)
+                .tag("outcome", outcome)
+                .description("Items processed by the latest execution of a customer batch step")
+                .register(meterRegistry));
+        return execution;
+    }
+}
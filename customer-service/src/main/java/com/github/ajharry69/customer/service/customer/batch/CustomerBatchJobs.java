@@ -0,0 +1,242 @@
+package com.github.ajharry69.customer.service.customer.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ajharry69.customer.service.customer.models.dtos.CustomerRequest;
+import com.github.ajharry69.customer.service.customer.models.dtos.CustomerResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.FlatFileItemWriter;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.file.builder.FlatFileItemWriterBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Chunk-oriented jobs that move customers in and out of the {@code customers} table in bulk.
+ * <ul>
+ *     <li>{@value #IMPORT_JOB} streams a CSV/NDJSON file of {@link CustomerRequest}s into the table using batched
+ *     {@code INSERT}s, one transaction per chunk. The reader's position is saved with every committed chunk, so
+ *     re-launching a failed import with the same parameters resumes where it stopped instead of starting over.</li>
+ *     <li>{@value #EXPORT_JOB} streams the table out through a server-side cursor (rows are fetched
+ *     {@code fetch-size} at a time) rather than issuing one paged query per chunk.</li>
+ * </ul>
+ */
+@Configuration
+class CustomerBatchJobs {
+    static final String IMPORT_JOB = "importCustomers";
+    static final String EXPORT_JOB = "exportCustomers";
+    static final String FILE_PARAMETER = "file";
+    static final String FORMAT_PARAMETER = "format";
+    static final String CSV_IMPORT_HEADER = "firstName,lastName,otherName";
+    static final String CSV_EXPORT_HEADER = "id,firstName,lastName,otherName";
+    private static final String INSERT_CUSTOMER_SQL = """
+            INSERT INTO customers (id, first_name, last_name, other_name, date_created)
+            VALUES (gen_random_uuid(), :firstName, :lastName, :otherName, now())
+            """;
+    // Matches idx_customers_date_created_id so that the cursor walks the index instead of sorting the whole table.
+    private static final String SELECT_CUSTOMERS_SQL = """
+            SELECT id, first_name, last_name, other_name
+            FROM customers
+            ORDER BY date_created DESC, id DESC
+            """;
+
+    private static String csv(Object... values) {
+        return Stream.of(values)
+                .map(value -> value == null ? "" : value.toString())
+                .map(value -> value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")
+                        ? "\"" + value.replace("\"", "\"\"") + "\""
+                        : value)
+                .collect(Collectors.joining(","));
+    }
+
+    private static CustomerRequest normalise(CustomerRequest request) {
+        return CustomerRequest.builder()
+                .firstName(request.firstName().strip())
+                .lastName(request.lastName().strip())
+                .otherName(request.otherName() == null || request.otherName().isBlank() ? null : request.otherName().strip())
+                .build();
+    }
+
+    @Bean
+    BatchProgressMetrics customerBatchProgressMetrics(MeterRegistry meterRegistry) {
+        return new BatchProgressMetrics(meterRegistry);
+    }
+
+    @Bean
+    Job importCustomersJob(JobRepository jobRepository, @Qualifier("importCustomersStep") Step step) {
+        return new JobBuilder(IMPORT_JOB, jobRepository)
+                .start(step)
+                .build();
+    }
+
+    @Bean
+    Step importCustomersStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            FlatFileItemReader<CustomerRequest> customerImportReader,
+            ItemProcessor<CustomerRequest, CustomerRequest> customerImportProcessor,
+            JdbcBatchItemWriter<CustomerRequest> customerImportWriter,
+            BatchProgressMetrics customerBatchProgressMetrics,
+            @Value("${application.config.batch.customers.chunk-size:1000}") int chunkSize,
+            @Value("${application.config.batch.customers.skip-limit:100}") int skipLimit
+    ) {
+        return new StepBuilder(IMPORT_JOB, jobRepository)
+                .<CustomerRequest, CustomerRequest>chunk(chunkSize, transactionManager)
+                .reader(customerImportReader)
+                .processor(customerImportProcessor)
+                .writer(customerImportWriter)
+                .faultTolerant()
+                // Malformed lines are skipped (and counted) rather than failing a multi-million-row import.
+                .skip(FlatFileParseException.class)
+                .skipLimit(skipLimit)
+                .listener(customerBatchProgressMetrics)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    FlatFileItemReader<CustomerRequest> customerImportReader(
+            ObjectMapper objectMapper,
+            @Value("#{jobParameters['" + FILE_PARAMETER + "']}") String file,
+            @Value("#{jobParameters['" + FORMAT_PARAMETER + "']}") BatchFormat format
+    ) {
+        var builder = new FlatFileItemReaderBuilder<CustomerRequest>()
+                .name("customerImportReader")
+                .resource(new FileSystemResource(file))
+                .encoding(StandardCharsets.UTF_8.name());
+        return switch (format) {
+            case CSV -> builder
+                    .linesToSkip(1)
+                    .delimited()
+                    .names(CSV_IMPORT_HEADER.split(","))
+                    .targetType(CustomerRequest.class)
+                    .build();
+            case NDJSON -> builder
+                    .lineMapper((line, _) -> objectMapper.readValue(line, CustomerRequest.class))
+                    .build();
+        };
+    }
+
+    /**
+     * Filters out (rather than fails on) records that would be rejected by the {@code POST /api/v1/customers}
+     * endpoint; they are reported through the step's filter count.
+     */
+    @Bean
+    ItemProcessor<CustomerRequest, CustomerRequest> customerImportProcessor(Validator validator) {
+        return request -> validator.validate(request).isEmpty() ? normalise(request) : null;
+    }
+
+    @Bean
+    JdbcBatchItemWriter<CustomerRequest> customerImportWriter(DataSource dataSource) {
+        return new JdbcBatchItemWriterBuilder<CustomerRequest>()
+                .dataSource(dataSource)
+                .sql(INSERT_CUSTOMER_SQL)
+                .itemSqlParameterSourceProvider(request -> new MapSqlParameterSource()
+                        .addValue("firstName", request.firstName())
+                        .addValue("lastName", request.lastName())
+                        .addValue("otherName", request.otherName()))
+                .build();
+    }
+
+    @Bean
+    Job exportCustomersJob(JobRepository jobRepository, @Qualifier("exportCustomersStep") Step step) {
+        return new JobBuilder(EXPORT_JOB, jobRepository)
+                .start(step)
+                .build();
+    }
+
+    @Bean
+    Step exportCustomersStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            JdbcCursorItemReader<CustomerResponse> customerExportReader,
+            FlatFileItemWriter<CustomerResponse> customerExportWriter,
+            BatchProgressMetrics customerBatchProgressMetrics,
+            @Value("${application.config.batch.customers.chunk-size:1000}") int chunkSize
+    ) {
+        return new StepBuilder(EXPORT_JOB, jobRepository)
+                .<CustomerResponse, CustomerResponse>chunk(chunkSize, transactionManager)
+                .reader(customerExportReader)
+                .writer(customerExportWriter)
+                .listener(customerBatchProgressMetrics)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    JdbcCursorItemReader<CustomerResponse> customerExportReader(
+            DataSource dataSource,
+            @Value("${application.config.batch.customers.fetch-size:1000}") int fetchSize
+    ) {
+        var reader = new JdbcCursorItemReaderBuilder<CustomerResponse>()
+                .name("customerExportReader")
+                .dataSource(dataSource)
+                .sql(SELECT_CUSTOMERS_SQL)
+                .rowMapper(new DataClassRowMapper<>(CustomerResponse.class))
+                .fetchSize(fetchSize)
+                .build();
+        // PostgreSQL only honours the fetch size (i.e. uses a server-side cursor) outside of auto-commit mode;
+        // otherwise the driver materialises the whole result set on the first read.
+        reader.setConnectionAutoCommit(false);
+        return reader;
+    }
+
+    @Bean
+    @StepScope
+    FlatFileItemWriter<CustomerResponse> customerExportWriter(
+            ObjectMapper objectMapper,
+            @Value("#{jobParameters['" + FILE_PARAMETER + "']}") String file,
+            @Value("#{jobParameters['" + FORMAT_PARAMETER + "']}") BatchFormat format
+    ) {
+        var builder = new FlatFileItemWriterBuilder<CustomerResponse>()
+                .name("customerExportWriter")
+                .resource(new FileSystemResource(file))
+                .encoding(StandardCharsets.UTF_8.name())
+                .shouldDeleteIfExists(true);
+        return switch (format) {
+            case CSV -> builder
+                    .headerCallback(writer -> writer.write(CSV_EXPORT_HEADER))
+                    .lineAggregator(customer -> csv(
+                            customer.id(),
+                            customer.firstName(),
+                            customer.lastName(),
+                            customer.otherName()
+                    ))
+                    .build();
+            case NDJSON -> builder
+                    .lineAggregator(customer -> {
+                        try {
+                            return objectMapper.writeValueAsString(customer);
+                        } catch (JsonProcessingException e) {
+                            throw new IllegalStateException("Failed to serialise customer " + customer.id(), e);
+                        }
+                    })
+                    .build();
+        };
+    }
+}
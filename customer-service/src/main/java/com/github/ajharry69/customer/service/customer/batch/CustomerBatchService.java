@@ -0,0 +1,159 @@
+package com.github.ajharry69.customer.service.customer.batch;
+
+import com.github.ajharry69.customer.exceptions.BatchJobConflictException;
+import com.github.ajharry69.customer.exceptions.BatchJobNotFoundException;
+import com.github.ajharry69.customer.exceptions.InvalidBatchFileException;
+import com.github.ajharry69.customer.service.customer.models.dtos.BatchJobResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.function.ToLongFunction;
+
+/**
+ * Launches the {@link CustomerBatchJobs} in the background and reports on their progress.
+ * <p>
+ * Files are always resolved against {@code application.config.batch.customers.directory}; names that would escape
+ * it are rejected.
+ */
+@Slf4j
+@Service
+public class CustomerBatchService {
+    static final String REQUESTED_AT_PARAMETER = "requestedAt";
+    private final JobExplorer jobExplorer;
+    private final Job importCustomersJob;
+    private final Job exportCustomersJob;
+    private final TaskExecutorJobLauncher jobLauncher;
+    private final Path directory;
+
+    public CustomerBatchService(
+            JobRepository jobRepository,
+            JobExplorer jobExplorer,
+            @Qualifier("importCustomersJob") Job importCustomersJob,
+            @Qualifier("exportCustomersJob") Job exportCustomersJob,
+            @Value("${application.config.batch.customers.directory:${java.io.tmpdir}/customer-batch}") Path directory
+    ) {
+        this.jobExplorer = jobExplorer;
+        this.importCustomersJob = importCustomersJob;
+        this.exportCustomersJob = exportCustomersJob;
+        this.directory = directory.toAbsolutePath().normalize();
+        // Boot's own JobLauncher runs jobs on the calling thread, which would tie up a request thread for the
+        // length of the job.
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        this.jobLauncher.setJobRepository(jobRepository);
+        this.jobLauncher.setTaskExecutor(new VirtualThreadTaskExecutor("customer-batch-"));
+    }
+
+    private static long sum(JobExecution execution, ToLongFunction<StepExecution> count) {
+        return execution.getStepExecutions().stream().mapToLong(count).sum();
+    }
+
+    private static BatchJobResponse toResponse(JobExecution execution) {
+        return BatchJobResponse.builder()
+                .id(execution.getId())
+                .job(execution.getJobInstance().getJobName())
+                .status(execution.getStatus().name())
+                .exitCode(execution.getExitStatus().getExitCode())
+                .startTime(execution.getStartTime())
+                .endTime(execution.getEndTime())
+                .read(sum(execution, StepExecution::getReadCount))
+                .written(sum(execution, StepExecution::getWriteCount))
+                .filtered(sum(execution, StepExecution::getFilterCount))
+                .skipped(sum(execution, StepExecution::getSkipCount))
+                .build();
+    }
+
+    /**
+     * Imports customers from {@code file}. Re-importing a file whose previous import failed or was stopped restarts
+     * that import from its last committed chunk; re-importing a file that was imported successfully is rejected.
+     *
+     * @throws InvalidBatchFileException  when {@code file} is outside the batch directory or cannot be read.
+     * @throws BatchJobConflictException when an import of {@code file} is already running or has completed.
+     */
+    public BatchJobResponse importCustomers(String file, BatchFormat format) {
+        var path = resolve(file);
+        if (!Files.isReadable(path)) {
+            throw new InvalidBatchFileException();
+        }
+
+        return launch(
+                importCustomersJob,
+                new JobParametersBuilder()
+                        .addString(CustomerBatchJobs.FILE_PARAMETER, path.toString())
+                        .addString(CustomerBatchJobs.FORMAT_PARAMETER, format.name())
+                        .toJobParameters()
+        );
+    }
+
+    /**
+     * Exports all customers to {@code file}, replacing it if it already exists.
+     *
+     * @throws InvalidBatchFileException when {@code file} is outside the batch directory.
+     */
+    public BatchJobResponse exportCustomers(String file, BatchFormat format) {
+        var path = resolve(file);
+        try {
+            Files.createDirectories(path.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return launch(
+                exportCustomersJob,
+                new JobParametersBuilder()
+                        .addString(CustomerBatchJobs.FILE_PARAMETER, path.toString())
+                        .addString(CustomerBatchJobs.FORMAT_PARAMETER, format.name())
+                        // Every export is a fresh snapshot, so it is never treated as a restart of an earlier one.
+                        .addLocalDateTime(REQUESTED_AT_PARAMETER, LocalDateTime.now())
+                        .toJobParameters()
+        );
+    }
+
+    public BatchJobResponse getJob(long id) {
+        var execution = jobExplorer.getJobExecution(id);
+        if (execution == null) {
+            throw new BatchJobNotFoundException();
+        }
+        return toResponse(execution);
+    }
+
+    private Path resolve(String file) {
+        try {
+            var path = directory.resolve(file).normalize();
+            if (!path.startsWith(directory) || path.equals(directory)) {
+                throw new InvalidBatchFileException();
+            }
+            return path;
+        } catch (InvalidPathException e) {
+            throw new InvalidBatchFileException();
+        }
+    }
+
+    private BatchJobResponse launch(Job job, JobParameters parameters) {
+        try {
+            var execution = jobLauncher.run(job, parameters);
+            log.info("Launched job '{}' (execution {}) with {}", job.getName(), execution.getId(), parameters);
+            return toResponse(execution);
+        } catch (JobExecutionException e) {
+            log.warn("Could not launch job '{}' with {}: {}", job.getName(), parameters, e.getMessage());
+            throw new BatchJobConflictException();
+        }
+    }
+}
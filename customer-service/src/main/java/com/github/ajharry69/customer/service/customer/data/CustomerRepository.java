@@ -1,6 +1,8 @@
 package com.github.ajharry69.customer.service.customer.data;
 
 import com.github.ajharry69.customer.service.customer.models.Customer;
+import com.github.ajharry69.pagination.ProjectionSpecificationExecutor;
+import com.github.ajharry69.pagination.SliceSpecificationExecutor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,11 +11,83 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
-public interface CustomerRepository extends JpaRepository<Customer, UUID>, JpaSpecificationExecutor<Customer> {
+public interface CustomerRepository extends JpaRepository<Customer, UUID>, JpaSpecificationExecutor<Customer>,
+        SliceSpecificationExecutor<Customer>, ProjectionSpecificationExecutor<Customer> {
     @Transactional
     @Modifying
     @Query("update customers c set c.dateCreated = :dateCreated where c.id = :id")
     void updateDateCreatedById(@Param("dateCreated") OffsetDateTime dateCreated, @Param("id") UUID id);
+
+    /**
+     * Updates the customer in a single statement, without loading it first.
+     *
+     * @return number of updated customers: {@code 0} if there is none with the ID.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update customers c
+            set c.firstName = :firstName,
+                c.lastName = :lastName,
+                c.otherName = :otherName,
+                c.dateLastModified = :dateLastModified
+            where c.id = :id""")
+    int updateById(
+            @Param("id") UUID id,
+            @Param("firstName") String firstName,
+            @Param("lastName") String lastName,
+            @Param("otherName") String otherName,
+            @Param("dateLastModified") OffsetDateTime dateLastModified
+    );
+
+    /**
+     * Deletes the customer in a single statement, without loading it first.
+     *
+     * @return number of deleted customers: {@code 0} if there is none with the ID.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from customers c where c.id = :id")
+    int deleteByIdReturningCount(@Param("id") UUID id);
+
+    String SEARCH_BY_NAME_QUERY = """
+            select c.id, c.first_name, c.last_name, c.other_name, c.date_created, c.date_last_modified
+            from customers c, websearch_to_tsquery(:query) q
+            where c.searchable @@ q
+            order by ts_rank(c.searchable, q) desc
+            limit :limit""";
+
+    /**
+     * Finds matches through the GIN index on {@code searchable} and ranks only those, keeping the best
+     * {@code limit}.
+     */
+    @Query(value = SEARCH_BY_NAME_QUERY, nativeQuery = true)
+    List<Customer> searchByName(@Param("query") String query, @Param("limit") int limit);
+
+    String SUGGEST_BY_NAME_PREFIX_QUERY = """
+            select c.id, c.first_name, c.last_name, c.other_name, c.date_created, c.date_last_modified
+            from customers c
+            where lower(c.first_name) like :pattern
+               or lower(c.last_name) like :pattern
+            order by greatest(similarity(lower(c.first_name), :prefix), similarity(lower(c.last_name), :prefix)) desc,
+                     c.last_name,
+                     c.first_name
+            limit :limit""";
+
+    /**
+     * Finds customers whose first or last name starts with {@code prefix} through the trigram indexes on the
+     * lower-cased names, closest names first.
+     *
+     * @param prefix  lower-cased prefix.
+     * @param pattern {@code prefix} with {@code LIKE} wildcards escaped, followed by {@code %}.
+     */
+    @Query(value = SUGGEST_BY_NAME_PREFIX_QUERY, nativeQuery = true)
+    List<Customer> suggestByNamePrefix(
+            @Param("prefix") String prefix,
+            @Param("pattern") String pattern,
+            @Param("limit") int limit
+    );
 }
\ No newline at end of file
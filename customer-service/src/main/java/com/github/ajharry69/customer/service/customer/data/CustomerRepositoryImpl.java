@@ -0,0 +1,34 @@
+package com.github.ajharry69.customer.service.customer.data;
+
+import com.github.ajharry69.customer.service.customer.models.Customer;
+import com.github.ajharry69.pagination.ProjectionSpecificationExecutor;
+import com.github.ajharry69.pagination.Projections;
+import com.github.ajharry69.pagination.SliceSpecificationExecutor;
+import com.github.ajharry69.pagination.SpecificationSlices;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class CustomerRepositoryImpl implements SliceSpecificationExecutor<Customer>, ProjectionSpecificationExecutor<Customer> {
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<Customer> findSlice(Specification<Customer> specification, Pageable pageable) {
+        return SpecificationSlices.find(entityManager, Customer.class, specification, pageable);
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findProjectedSlice(
+            Specification<Customer> specification,
+            Collection<String> attributes,
+            Pageable pageable
+    ) {
+        return Projections.findSlice(entityManager, Customer.class, specification, attributes, pageable);
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.ajharry69.customer.service.customer.data;
 
+import com.github.ajharry69.autoconfigure.DTBFunctionContributor;
 import com.github.ajharry69.customer.service.customer.models.Customer;
 import jakarta.persistence.criteria.*;
 import lombok.AllArgsConstructor;
@@ -20,6 +21,7 @@ public class CustomerSpecification implements Specification<Customer> {
         if (filter.name() != null && StringUtils.hasText(filter.name())) {
             String searchTerm = filter.name().trim();
 
+            var searchable = cb.function(DTBFunctionContributor.SEARCHABLE, Object.class, root.get("id"));
             var tsQuery = cb.function(
                     "websearch_to_tsquery",
                     Object.class,
@@ -28,9 +30,9 @@ public class CustomerSpecification implements Specification<Customer> {
 
             predicates.add(
                     cb.isTrue(cb.function(
-                            "ts_match_vq",
+                            DTBFunctionContributor.FULL_TEXT_MATCH,
                             Boolean.class,
-                            root.get("searchable"),
+                            searchable,
                             tsQuery
                     ))
             );
@@ -38,7 +40,7 @@ public class CustomerSpecification implements Specification<Customer> {
             var rankExpression = cb.function(
                     "ts_rank",
                     Double.class,
-                    root.get("searchable"),
+                    searchable,
                     tsQuery
             );
             // Add ORDER BY rank DESC
@@ -1,24 +1,26 @@
 package com.github.ajharry69.customer.service.customer.messaging;
 
+import com.github.ajharry69.outbox.Outbox;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * Writes events to the {@link Outbox} in the caller's transaction; they reach the broker once it commits.
+ */
 @Component
 @AllArgsConstructor
 @Slf4j
 public class CustomerMessagingServiceImpl implements CustomerMessagingService {
-    private final AmqpTemplate template;
+    private final Outbox outbox;
 
     @Override
     public void sendCustomerDeletedEvent(CustomerDeletedEvent event) {
-        log.info("Sending customer deleted event: {}", event);
-        template.convertAndSend(
+        log.info("Queueing customer deleted event: {}", event);
+        outbox.enqueue(
                 CustomerMessagingConfig.EXCHANGE_NAME,
                 CustomerMessagingConfig.ROUTING_KEY_DELETE_CUSTOMER,
                 event
         );
-        log.info("Customer deleted event sent: {}", event);
     }
 }
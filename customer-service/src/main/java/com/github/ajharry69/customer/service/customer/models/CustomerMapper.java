@@ -7,6 +7,9 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.Map;
+import java.util.UUID;
+
 
 @Mapper(
         componentModel = MappingConstants.ComponentModel.SPRING,
@@ -17,4 +20,16 @@ public interface CustomerMapper {
     Customer toEntity(CustomerRequest request);
 
     CustomerResponse toResponse(Customer customer);
+
+    /**
+     * Maps the attributes selected by a projection; the others are left {@code null}.
+     */
+    default CustomerResponse toProjectedResponse(Map<String, Object> values) {
+        return CustomerResponse.builder()
+                .id((UUID) values.get("id"))
+                .firstName((String) values.get("firstName"))
+                .lastName((String) values.get("lastName"))
+                .otherName((String) values.get("otherName"))
+                .build();
+    }
 }
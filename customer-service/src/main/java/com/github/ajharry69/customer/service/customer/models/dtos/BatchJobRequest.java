@@ -0,0 +1,20 @@
+package com.github.ajharry69.customer.service.customer.models.dtos;
+
+import com.github.ajharry69.customer.service.customer.batch.BatchFormat;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+/**
+ * @param file   name of the file to read from (import) or write to (export), relative to the service's batch
+ *               directory.
+ * @param format format of {@code file}.
+ */
+@Builder
+public record BatchJobRequest(
+        @NotNull
+        @NotBlank
+        String file,
+        @NotNull
+        BatchFormat format) {
+}
@@ -0,0 +1,19 @@
+package com.github.ajharry69.customer.service.customer.models.dtos;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record BatchJobResponse(
+        long id,
+        String job,
+        String status,
+        String exitCode,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        long read,
+        long written,
+        long filtered,
+        long skipped) {
+}
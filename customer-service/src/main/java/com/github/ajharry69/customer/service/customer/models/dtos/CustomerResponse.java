@@ -1,10 +1,13 @@
 package com.github.ajharry69.customer.service.customer.models.dtos;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.github.ajharry69.pagination.Projections;
 import lombok.Builder;
 
 import java.util.UUID;
 
 @Builder
+@JsonFilter(Projections.FILTER)
 public record CustomerResponse(
         UUID id,
         String firstName,
@@ -0,0 +1,71 @@
+package com.github.ajharry69.customer.service.overview;
+
+import com.github.ajharry69.SecuritySchemeName;
+import com.github.ajharry69.customer.service.overview.models.dtos.CustomerOverview;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.mediatype.problem.Problem;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/customers")
+@Tag(name = "Customers", description = "Operations related to customers")
+public class CustomerOverviewController {
+    private final CustomerOverviewService service;
+
+    @GetMapping(value = "/{customerId}/overview", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Get customer overview",
+            description = "Returns the customer together with their accounts and each account's cards. Accounts "
+                    + "and cards are fetched concurrently; any that cannot be fetched in time are left out, listed "
+                    + "in `errors` and flagged by `complete: false`."
+    )
+    @ApiResponses(
+            {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval, possibly partial"
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Customer not found",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaTypes.HTTP_PROBLEM_DETAILS_JSON_VALUE,
+                                            schema = @Schema(implementation = Problem.class)
+                                    )
+                            }
+                    )
+            }
+    )
+    @PreAuthorize("hasAuthority('SCOPE_customer.read')")
+    @SecurityRequirement(name = SecuritySchemeName.OAUTH2, scopes = {"customer.read", "account.read", "card.read"})
+    public CustomerOverview getOverview(@PathVariable UUID customerId) {
+        return service.getOverview(customerId);
+    }
+}
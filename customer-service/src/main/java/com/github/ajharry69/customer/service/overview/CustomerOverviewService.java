@@ -0,0 +1,189 @@
+package com.github.ajharry69.customer.service.overview;
+
+import com.github.ajharry69.autoconfigure.BearerTokenContext;
+import com.github.ajharry69.customer.service.account.AccountClient;
+import com.github.ajharry69.customer.service.account.data.AccountFilter;
+import com.github.ajharry69.customer.service.account.models.dtos.AccountResponse;
+import com.github.ajharry69.customer.service.card.CardClient;
+import com.github.ajharry69.customer.service.card.data.CardFilter;
+import com.github.ajharry69.customer.service.card.models.dtos.CardResponse;
+import com.github.ajharry69.customer.service.customer.CustomerService;
+import com.github.ajharry69.customer.service.overview.models.dtos.AccountOverview;
+import com.github.ajharry69.customer.service.overview.models.dtos.CustomerOverview;
+import com.github.ajharry69.customer.service.overview.models.dtos.OverviewError;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Builds a customer's overview, reporting accounts or cards that failed, timed out or were truncated as errors.
+ */
+@Slf4j
+@Service
+public class CustomerOverviewService {
+    private final CustomerService customerService;
+    private final AccountClient accountClient;
+    private final CardClient cardClient;
+    private final Duration accountsTimeout;
+    private final Duration cardsTimeout;
+    private final int maxAccounts;
+    private final int maxCardsPerAccount;
+
+    public CustomerOverviewService(
+            CustomerService customerService,
+            AccountClient accountClient,
+            CardClient cardClient,
+            @Value("${application.config.customer-overview.accounts-timeout:PT2S}") Duration accountsTimeout,
+            @Value("${application.config.customer-overview.cards-timeout:PT2S}") Duration cardsTimeout,
+            @Value("${application.config.customer-overview.max-accounts:50}") int maxAccounts,
+            @Value("${application.config.customer-overview.max-cards-per-account:50}") int maxCardsPerAccount
+    ) {
+        this.customerService = customerService;
+        this.accountClient = accountClient;
+        this.cardClient = cardClient;
+        this.accountsTimeout = accountsTimeout;
+        this.cardsTimeout = cardsTimeout;
+        this.maxAccounts = maxAccounts;
+        this.maxCardsPerAccount = maxCardsPerAccount;
+    }
+
+    /**
+     * @return the content of {@code page}, recording in {@code errors} when there is more than that one page.
+     */
+    private static <T> List<T> contents(
+            PagedModel<EntityModel<T>> page,
+            OverviewError.Branch branch,
+            UUID accountId,
+            List<OverviewError> errors
+    ) {
+        var content = page.getContent().stream().map(EntityModel::getContent).toList();
+        var metadata = page.getMetadata();
+        if (page.getNextLink().isPresent() || metadata != null && metadata.getTotalElements() > content.size()) {
+            log.warn("Truncated {} for account {} to the first {}", branch, accountId, content.size());
+            errors.add(
+                    OverviewError.builder()
+                            .branch(branch)
+                            .accountId(accountId)
+                            .reason(OverviewError.Reason.TRUNCATED)
+                            .build()
+            );
+        }
+        return content;
+    }
+
+    private static <T> List<T> awaitContents(
+            Future<PagedModel<EntityModel<T>>> future,
+            long deadline,
+            OverviewError.Branch branch,
+            UUID accountId,
+            List<OverviewError> errors
+    ) {
+        var page = await(future, deadline, branch, accountId, errors);
+        return page != null ? contents(page, branch, accountId, errors) : null;
+    }
+
+    /**
+     * @return the result of {@code future}, or {@code null} when it fails or misses {@code deadline} (nano time).
+     */
+    private static <T> T await(
+            Future<T> future,
+            long deadline,
+            OverviewError.Branch branch,
+            UUID accountId,
+            List<OverviewError> errors
+    ) {
+        OverviewError.Reason reason;
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Timed out fetching {} for account {}", branch, accountId);
+            reason = OverviewError.Reason.TIMEOUT;
+        } catch (ExecutionException e) {
+            log.warn("Failed to fetch {} for account {}: {}", branch, accountId, e.getCause().getMessage());
+            reason = OverviewError.Reason.FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reason = OverviewError.Reason.FAILED;
+        }
+
+        future.cancel(true);
+        errors.add(OverviewError.builder().branch(branch).accountId(accountId).reason(reason).build());
+        return null;
+    }
+
+    /**
+     * @throws com.github.ajharry69.customer.exceptions.CustomerNotFoundException when the customer does not exist.
+     */
+    public CustomerOverview getOverview(UUID customerId) {
+        log.info("Getting overview of customer with id: {}", customerId);
+        var customer = customerService.getCustomer(customerId);
+        var errors = new ArrayList<OverviewError>();
+        var executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            var accountsFuture = executor.submit(BearerTokenContext.wrap(() -> getAccounts(customerId)));
+            var accounts = awaitContents(
+                    accountsFuture,
+                    System.nanoTime() + accountsTimeout.toNanos(),
+                    OverviewError.Branch.ACCOUNTS,
+                    null,
+                    errors
+            );
+
+            List<AccountOverview> accountOverviews = null;
+            if (accounts != null) {
+                var cardsDeadline = System.nanoTime() + cardsTimeout.toNanos();
+                var cardsFutures = accounts.stream()
+                        .map(account -> executor.submit(BearerTokenContext.wrap(() -> getCards(account.id()))))
+                        .toList();
+                accountOverviews = new ArrayList<>(accounts.size());
+                for (int i = 0; i < accounts.size(); i++) {
+                    var account = accounts.get(i);
+                    var cards = awaitContents(
+                            cardsFutures.get(i),
+                            cardsDeadline,
+                            OverviewError.Branch.CARDS,
+                            account.id(),
+                            errors
+                    );
+                    accountOverviews.add(AccountOverview.builder().account(account).cards(cards).build());
+                }
+            }
+
+            log.info("Built overview of customer: {} with {} incomplete branches", customerId, errors.size());
+            return CustomerOverview.builder()
+                    .customer(customer)
+                    .accounts(accountOverviews)
+                    .complete(errors.isEmpty())
+                    .errors(errors)
+                    .build();
+        } finally {
+            // Interrupt, rather than wait for, branches that outlived their timeout.
+            executor.shutdownNow();
+        }
+    }
+
+    private PagedModel<EntityModel<AccountResponse>> getAccounts(UUID customerId) {
+        var filter = AccountFilter.builder().customerId(customerId).build();
+        var page = accountClient.getAccounts(filter, PageRequest.of(0, maxAccounts));
+        return page != null ? page : PagedModel.empty();
+    }
+
+    private PagedModel<EntityModel<CardResponse>> getCards(UUID accountId) {
+        var filter = CardFilter.builder().accountId(accountId).build();
+        var page = cardClient.getCards(filter, PageRequest.of(0, maxCardsPerAccount));
+        return page != null ? page : PagedModel.empty();
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.ajharry69.customer.service.overview.models.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.ajharry69.customer.service.account.models.dtos.AccountResponse;
+import com.github.ajharry69.customer.service.card.models.dtos.CardResponse;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * @param cards absent when the account's cards could not be fetched in time.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AccountOverview(
+        AccountResponse account,
+        List<CardResponse> cards) {
+}
@@ -0,0 +1,20 @@
+package com.github.ajharry69.customer.service.overview.models.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.ajharry69.customer.service.customer.models.dtos.CustomerResponse;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * @param accounts absent when the customer's accounts could not be fetched in time.
+ * @param complete {@code false} when any part of the overview is missing or truncated; see {@code errors}.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CustomerOverview(
+        CustomerResponse customer,
+        List<AccountOverview> accounts,
+        boolean complete,
+        List<OverviewError> errors) {
+}
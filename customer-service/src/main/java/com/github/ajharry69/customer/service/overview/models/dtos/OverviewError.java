@@ -0,0 +1,38 @@
+package com.github.ajharry69.customer.service.overview.models.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * A branch of a {@link CustomerOverview} that is missing, or only partly there.
+ *
+ * @param accountId the account whose cards are missing; absent for {@link Branch#ACCOUNTS}.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OverviewError(
+        Branch branch,
+        UUID accountId,
+        Reason reason) {
+    public enum Branch {
+        ACCOUNTS,
+        CARDS
+    }
+
+    public enum Reason {
+        /**
+         * The branch did not complete within its timeout.
+         */
+        TIMEOUT,
+        /**
+         * The downstream service failed or rejected the call.
+         */
+        FAILED,
+        /**
+         * The branch has more items than an overview includes; only the first of them are.
+         */
+        TRUNCATED
+    }
+}
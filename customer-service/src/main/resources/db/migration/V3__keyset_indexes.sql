@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_customers_date_created_id ON customers (date_created DESC, id DESC);
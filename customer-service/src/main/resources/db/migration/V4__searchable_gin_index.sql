@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_customers_searchable ON customers USING GIN (searchable);
@@ -0,0 +1,4 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_customers_first_name_trgm ON customers USING GIN (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customers_last_name_trgm ON customers USING GIN (lower(last_name) gin_trgm_ops);
@@ -0,0 +1,50 @@
+package com.github.ajharry69.customer.service.customer;
+
+import com.github.ajharry69.customer.service.account.AccountController;
+import com.github.ajharry69.customer.service.account.data.AccountFilter;
+import com.github.ajharry69.customer.service.customer.models.dtos.CustomerResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Links;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class CustomerAssemblerTest {
+    private final CustomerAssembler assembler = new CustomerAssembler();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldBuildSameLinksAsLinkTo() {
+        // Given
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/v1/customers"))
+        );
+        var customer = CustomerResponse.builder()
+                .id(UUID.randomUUID())
+                .firstName("John")
+                .lastName("Doe")
+                .build();
+
+        // When
+        var model = assembler.toModel(customer);
+
+        // Then
+        var expected = Links.of(
+                linkTo(methodOn(CustomerController.class).getCustomer(customer.id())).withSelfRel(),
+                linkTo(methodOn(AccountController.class).getAccounts(customer.id(), AccountFilter.builder().build(), null))
+                        .withRel("accounts")
+        );
+        assertThat(model.getLinks()).hasToString(expected.toString());
+    }
+}
@@ -0,0 +1,287 @@
+package com.github.ajharry69.customer.service.customer;
+
+import com.github.ajharry69.customer.IntegrationTest;
+import com.github.ajharry69.customer.TestcontainersConfiguration;
+import com.github.ajharry69.customer.service.customer.batch.BatchFormat;
+import com.github.ajharry69.customer.service.customer.data.CustomerRepository;
+import com.github.ajharry69.customer.service.customer.models.Customer;
+import com.github.ajharry69.customer.service.customer.models.dtos.BatchJobRequest;
+import dasniko.testcontainers.keycloak.KeycloakContainer;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Import({TestcontainersConfiguration.class})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles(value = {"test"})
+@Testcontainers
+class CustomerBatchControllerTest extends IntegrationTest {
+    private static final Path BATCH_DIRECTORY;
+    @Container
+    static KeycloakContainer keycloak = new KeycloakContainer()
+            .withRealmImportFile("/realm.json");
+
+    static {
+        try {
+            BATCH_DIRECTORY = Files.createTempDirectory("customer-batch");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Autowired
+    private CustomerRepository repository;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add(
+                "spring.security.oauth2.resourceserver.jwt.issuer-uri",
+                () -> keycloak.getAuthServerUrl() + "/realms/dt-bank"
+        );
+        registry.add("application.config.batch.customers.directory", BATCH_DIRECTORY::toString);
+        registry.add("application.config.batch.customers.chunk-size", () -> 2);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        RestAssured.port = RestAssured.DEFAULT_PORT;
+
+        repository.deleteAll();
+        repository.save(
+                Customer.builder()
+                        .firstName("John")
+                        .lastName("Doe")
+                        .build()
+        );
+    }
+
+    private JsonPath awaitCompletion(long jobId) throws InterruptedException {
+        var deadline = Instant.now().plus(Duration.ofSeconds(30));
+        while (true) {
+            var job = given()
+                    .auth().oauth2(getAccessToken())
+                    .get("/api/v1/customers/jobs/{jobId}", jobId)
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .extract()
+                    .jsonPath();
+            var status = job.getString("status");
+            if (!"STARTING".equals(status) && !"STARTED".equals(status)) {
+                return job;
+            }
+            assertThat(Instant.now()).isBefore(deadline);
+            Thread.sleep(100);
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "POST - /api/v1/customers:import")
+    class ImportCustomers {
+        @Test
+        void shouldDeny_WhenCallerCannotCreateCustomers() throws IOException {
+            // Given
+            Files.writeString(BATCH_DIRECTORY.resolve("denied.csv"), "firstName,lastName,otherName\nJane,Doe,\n");
+
+            // When
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .contentType(ContentType.JSON)
+                    .body(BatchJobRequest.builder().file("denied.csv").format(BatchFormat.CSV).build())
+                    .post("/api/v1/customers:import");
+
+            // Then
+            response
+                    .then()
+                    .statusCode(HttpStatus.FORBIDDEN.value())
+                    .body("errorCode", equalTo("ACCESS_DENIED"));
+        }
+
+        @Test
+        void shouldImportValidRecords_AndFilterInvalidOnes_AndSkipMalformedLines() throws Exception {
+            // Given
+            Files.writeString(
+                    BATCH_DIRECTORY.resolve("customers.csv"),
+                    """
+                            firstName,lastName,otherName
+                            Jane,Doe,
+                            "Mary, Ann",Smith,Jo
+                            Invalid,,
+                            too,many,tokens,here
+                            Peter,Parker,
+                            """
+            );
+
+            // When
+            Response response = given()
+                    .auth().oauth2(getAdminAccessToken())
+                    .contentType(ContentType.JSON)
+                    .body(BatchJobRequest.builder().file("customers.csv").format(BatchFormat.CSV).build())
+                    .post("/api/v1/customers:import");
+
+            // Then
+            response
+                    .then()
+                    .statusCode(HttpStatus.ACCEPTED.value())
+                    .header("Location", containsString("/api/v1/customers/jobs/"))
+                    .body("job", equalTo("importCustomers"));
+            var job = awaitCompletion(response.jsonPath().getLong("id"));
+            assertAll(
+                    () -> assertThat(job.getString("status")).isEqualTo("COMPLETED"),
+                    () -> assertThat(job.getLong("written")).isEqualTo(3),
+                    () -> assertThat(job.getLong("filtered")).isEqualTo(1),
+                    () -> assertThat(job.getLong("skipped")).isEqualTo(1),
+                    () -> assertThat(repository.count()).isEqualTo(4),
+                    () -> assertThat(repository.findAll())
+                            .anySatisfy(customer -> assertAll(
+                                    () -> assertThat(customer.getFirstName()).isEqualTo("Mary, Ann"),
+                                    () -> assertThat(customer.getOtherName()).isEqualTo("Jo"),
+                                    () -> assertThat(customer.getDateCreated()).isNotNull()
+                            ))
+            );
+        }
+
+        @Test
+        void shouldImportNdjson() throws Exception {
+            // Given
+            Files.writeString(
+                    BATCH_DIRECTORY.resolve("customers.ndjson"),
+                    """
+                            {"firstName":"Jane","lastName":"Doe"}
+                            {"firstName":"Peter","lastName":"Parker","otherName":"Ben"}
+                            """
+            );
+
+            // When
+            var id = given()
+                    .auth().oauth2(getAdminAccessToken())
+                    .contentType(ContentType.JSON)
+                    .body(BatchJobRequest.builder().file("customers.ndjson").format(BatchFormat.NDJSON).build())
+                    .post("/api/v1/customers:import")
+                    .then()
+                    .statusCode(HttpStatus.ACCEPTED.value())
+                    .extract()
+                    .jsonPath()
+                    .getLong("id");
+
+            // Then
+            var job = awaitCompletion(id);
+            assertAll(
+                    () -> assertThat(job.getString("status")).isEqualTo("COMPLETED"),
+                    () -> assertThat(job.getLong("written")).isEqualTo(2),
+                    () -> assertThat(repository.count()).isEqualTo(3)
+            );
+        }
+
+        @Test
+        void shouldRejectFilesOutsideTheBatchDirectory() {
+            // When
+            Response response = given()
+                    .auth().oauth2(getAdminAccessToken())
+                    .contentType(ContentType.JSON)
+                    .body(BatchJobRequest.builder().file("../../etc/passwd").format(BatchFormat.CSV).build())
+                    .post("/api/v1/customers:import");
+
+            // Then
+            response
+                    .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value())
+                    .body("errorCode", equalTo("INVALID_BATCH_FILE"));
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "POST - /api/v1/customers:export")
+    class ExportCustomers {
+        @Test
+        void shouldDeny_WhenCallerCannotCreateCustomers() {
+            // When
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .contentType(ContentType.JSON)
+                    .body(BatchJobRequest.builder().file("exports/denied.csv").format(BatchFormat.CSV).build())
+                    .post("/api/v1/customers:export");
+
+            // Then
+            response
+                    .then()
+                    .statusCode(HttpStatus.FORBIDDEN.value())
+                    .body("errorCode", equalTo("ACCESS_DENIED"));
+            assertThat(BATCH_DIRECTORY.resolve("exports/denied.csv")).doesNotExist();
+        }
+
+        @Test
+        void shouldStreamAllCustomersToFile() throws Exception {
+            // Given
+            repository.save(
+                    Customer.builder()
+                            .firstName("Jane")
+                            .lastName("Doe")
+                            .otherName("Mary, Ann")
+                            .build()
+            );
+
+            // When
+            var id = given()
+                    .auth().oauth2(getAdminAccessToken())
+                    .contentType(ContentType.JSON)
+                    .body(BatchJobRequest.builder().file("exports/customers.csv").format(BatchFormat.CSV).build())
+                    .post("/api/v1/customers:export")
+                    .then()
+                    .statusCode(HttpStatus.ACCEPTED.value())
+                    .extract()
+                    .jsonPath()
+                    .getLong("id");
+
+            // Then
+            var job = awaitCompletion(id);
+            var lines = Files.readAllLines(BATCH_DIRECTORY.resolve("exports/customers.csv"));
+            assertAll(
+                    () -> assertThat(job.getString("status")).isEqualTo("COMPLETED"),
+                    () -> assertThat(job.getLong("written")).isEqualTo(2),
+                    () -> assertThat(lines).hasSize(3),
+                    () -> assertThat(lines.getFirst()).isEqualTo("id,firstName,lastName,otherName"),
+                    () -> assertThat(lines).anySatisfy(line -> assertThat(line).endsWith(",Jane,Doe,\"Mary, Ann\""))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "GET - /api/v1/customers/jobs/{jobId}")
+    class GetJob {
+        @Test
+        void shouldReturnNotFound_WhenJobDoesNotExist() {
+            given()
+                    .auth().oauth2(getAccessToken())
+                    .get("/api/v1/customers/jobs/{jobId}", Long.MAX_VALUE)
+                    .then()
+                    .statusCode(HttpStatus.NOT_FOUND.value())
+                    .body("errorCode", equalTo("BATCH_JOB_NOT_FOUND"));
+        }
+    }
+}
@@ -2,15 +2,20 @@ package com.github.ajharry69.customer.service.customer;
 
 import com.github.ajharry69.customer.IntegrationTest;
 import com.github.ajharry69.customer.TestcontainersConfiguration;
+import com.github.ajharry69.customer.exceptions.CustomerNotFoundException;
 import com.github.ajharry69.customer.service.customer.data.CustomerFilter;
 import com.github.ajharry69.customer.service.customer.data.CustomerRepository;
 import com.github.ajharry69.customer.service.customer.models.Customer;
 import com.github.ajharry69.customer.service.customer.models.dtos.CustomerRequest;
+import com.github.ajharry69.pagination.LeanPages;
 import dasniko.testcontainers.keycloak.KeycloakContainer;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import jakarta.persistence.EntityManagerFactory;
 import net.datafaker.Faker;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,9 +29,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
@@ -34,12 +42,16 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -54,6 +66,8 @@ class CustomerControllerTest extends IntegrationTest {
             .withRealmImportFile("/realm.json");
     @Autowired
     private CustomerRepository repository;
+    @Autowired
+    private CustomerService service;
     private Customer customer;
 
     @DynamicPropertySource
@@ -309,6 +323,22 @@ class CustomerControllerTest extends IntegrationTest {
                     .body("otherName", equalTo(customer.getOtherName()));
         }
 
+        @Test
+        void shouldKeepNullFields() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .get("/api/v1/customers/{customerId}", validCustomerDetailRequest());
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("$", hasKey("otherName"))
+                    .body("otherName", nullValue());
+        }
+
         @Test
         void shouldReturnNotFoundForInvalidCustomerId() {
             Response response = given()
@@ -488,5 +518,274 @@ class CustomerControllerTest extends IntegrationTest {
                     .statusCode(HttpStatus.OK.value())
                     .body("page.totalElements", equalTo(expectedTotalElements));
         }
+
+        @Test
+        void shouldReturnPlainArrayWithPageLinks_WhenAcceptingLeanMediaType() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .accept(LeanPages.MEDIA_TYPE_VALUE)
+                    .when()
+                    .queryParam("size", 1)
+                    .get("/api/v1/customers");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .contentType(startsWith(LeanPages.MEDIA_TYPE_VALUE))
+                    .body("_embedded", nullValue())
+                    .body("content", hasSize(1))
+                    .body("content[0].id", notNullValue())
+                    .body("content[0]._links", nullValue())
+                    .body("page.totalElements", equalTo(2))
+                    .body("links.self", containsString("/api/v1/customers"))
+                    .body("links.next", containsString("page=1"));
+        }
+
+        @Test
+        void shouldReturnRequestedFieldsOnly_WhenFieldsAreGiven() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .queryParam("fields", "firstName,lastName")
+                    .get("/api/v1/customers");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("_embedded.customerResponseList", hasSize(2))
+                    .body("_embedded.customerResponseList.id", everyItem(notNullValue()))
+                    .body("_embedded.customerResponseList.firstName", everyItem(notNullValue()))
+                    .body("_embedded.customerResponseList.lastName", everyItem(notNullValue()))
+                    .body("_embedded.customerResponseList[0]", not(hasKey("otherName")))
+                    .body("_embedded.customerResponseList[0]._links.self.href", containsString("/api/v1/customers/"))
+                    .body("page.totalElements", equalTo(2));
+        }
+
+        @Test
+        void shouldKeepNullFields_WhenFieldsAreNotGiven() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .get("/api/v1/customers");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("_embedded.customerResponseList", everyItem(hasKey("otherName")))
+                    .body("_embedded.customerResponseList.otherName", everyItem(nullValue()));
+        }
+
+        @Test
+        void shouldKeepRequestedNullFields_WhenFieldsAreGiven() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .queryParam("fields", "otherName")
+                    .get("/api/v1/customers");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("_embedded.customerResponseList", everyItem(hasKey("otherName")))
+                    .body("_embedded.customerResponseList[0]", not(hasKey("firstName")));
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "GET - /api/v1/customers/search")
+    class SearchCustomers {
+        @Autowired
+        private NamedParameterJdbcTemplate jdbcTemplate;
+        @Autowired
+        private TransactionTemplate transactionTemplate;
+
+        @Test
+        void shouldReturnBestMatchesFirst() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .queryParam("q", "john doe")
+                    .get("/api/v1/customers/search");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("_embedded.customerResponseList[0].firstName", equalTo("John"))
+                    .body("_embedded.customerResponseList[0].lastName", equalTo("Doe"));
+        }
+
+        @Test
+        void shouldUseSearchableIndex() {
+            // Given: enough customers, with fresh statistics, for the index to be cheaper than a sequential scan
+            // under the default planner settings. Rolled back, so the other tests see the usual two customers.
+            List<String> plan = transactionTemplate.execute(status -> {
+                status.setRollbackOnly();
+                jdbcTemplate.getJdbcTemplate().execute("""
+                        insert into customers (id, first_name, last_name, date_created)
+                        select gen_random_uuid(), 'Customer' || n, 'Number' || n, now()
+                        from generate_series(1, 10000) n""");
+                jdbcTemplate.getJdbcTemplate().execute("analyze customers");
+
+                // When
+                return jdbcTemplate.queryForList(
+                        "explain " + CustomerRepository.SEARCH_BY_NAME_QUERY,
+                        Map.of("query", "john", "limit", 10),
+                        String.class
+                );
+            });
+
+            // Then
+            assertThat(plan)
+                    .anyMatch(line -> line.contains("idx_customers_searchable"))
+                    .noneMatch(line -> line.contains("Seq Scan on customers"));
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "GET - /api/v1/customers/search/suggest")
+    class SuggestCustomers {
+        @Test
+        void shouldSuggestNothing_WhenPrefixIsTooShort() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .queryParam("q", " DO ")
+                    .get("/api/v1/customers/search/suggest");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("_embedded", nullValue());
+        }
+
+        @Test
+        void shouldSuggestCustomers_WhenPrefixHasThreeCharacters() {
+            Response response = given()
+                    .auth().oauth2(getAccessToken())
+                    .when()
+                    .queryParam("q", "JOH")
+                    .get("/api/v1/customers/search/suggest");
+
+            response.prettyPrint();
+
+            response
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("_embedded.customerResponseList.firstName", hasItem("John"));
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "Statement count")
+    class StatementCount {
+        @BeforeEach
+        public void setUp() {
+            QueryCountHolder.clear();
+        }
+
+        @Test
+        void shouldUpdateWithOneStatement() {
+            service.updateCustomer(
+                    customer.getId(),
+                    CustomerRequest.builder()
+                            .firstName(firstName())
+                            .lastName(lastName())
+                            .build()
+            );
+
+            var count = QueryCountHolder.getGrandTotal();
+            assertAll(
+                    () -> assertThat(count.getTotal())
+                            .isEqualTo(1),
+                    () -> assertThat(count.getUpdate())
+                            .isEqualTo(1)
+            );
+        }
+
+        @Test
+        void shouldDetectMissingCustomerOnUpdateWithOneStatement() {
+            assertThatThrownBy(() -> service.updateCustomer(
+                    UUID.randomUUID(),
+                    CustomerRequest.builder()
+                            .firstName(firstName())
+                            .lastName(lastName())
+                            .build()
+            )).isInstanceOf(CustomerNotFoundException.class);
+
+            assertThat(QueryCountHolder.getGrandTotal().getTotal())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        void shouldDeleteWithOneStatement() {
+            service.deleteCustomer(customer.getId());
+
+            // The only other statement is the outbox insert of the deletion event.
+            var count = QueryCountHolder.getGrandTotal();
+            assertAll(
+                    () -> assertThat(count.getSelect())
+                            .isZero(),
+                    () -> assertThat(count.getDelete())
+                            .isEqualTo(1),
+                    () -> assertThat(repository.existsById(customer.getId()))
+                            .isFalse()
+            );
+        }
+
+        @Test
+        void shouldDetectMissingCustomerOnDeleteWithOneStatement() {
+            assertThatThrownBy(() -> service.deleteCustomer(UUID.randomUUID()))
+                    .isInstanceOf(CustomerNotFoundException.class);
+
+            assertThat(QueryCountHolder.getGrandTotal().getTotal())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName(value = "Row size")
+    class RowSize {
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Test
+        void shouldReadFewerBytesPerRowThanTheFullRow() {
+            // The full row (searchable included) is what loading a Customer read while the tsvector was mapped.
+            var persister = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getMappingMetamodel()
+                    .getEntityDescriptor(Customer.class);
+            var columns = new LinkedHashSet<String>();
+            persister.getIdentifierMapping()
+                    .forEachSelectable((_, column) -> columns.add(column.getSelectionExpression()));
+            persister.forEachSelectable((_, column) -> columns.add(column.getSelectionExpression()));
+
+            var bytesPerFullRow = jdbcTemplate.queryForObject(
+                    "select avg(pg_column_size(t.*)) from customers t",
+                    Double.class
+            );
+            var bytesPerMappedRow = jdbcTemplate.queryForObject(
+                    "select avg(pg_column_size(t.*)) from (select " + String.join(", ", columns) + " from customers) t",
+                    Double.class
+            );
+
+            assertThat(columns).doesNotContain("searchable");
+            assertThat(bytesPerMappedRow)
+                    .as("bytes per row: %s with searchable, %s without", bytesPerFullRow, bytesPerMappedRow)
+                    .isLessThan(bytesPerFullRow);
+        }
     }
-}
\ No newline at end of file
+}
@@ -10,6 +10,7 @@ import com.github.ajharry69.customer.service.customer.models.Customer;
 import com.github.ajharry69.customer.service.customer.models.CustomerMapper;
 import com.github.ajharry69.customer.service.customer.models.dtos.CustomerRequest;
 import com.github.ajharry69.customer.service.customer.models.dtos.CustomerResponse;
+import com.github.ajharry69.pagination.PageCounter;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +20,7 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -29,18 +31,22 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 class CustomerServiceTest {
     private final CustomerMapper customerMapper = Mappers.getMapper(CustomerMapper.class);
     private final CustomerRepository repository = mock(CustomerRepository.class);
     private final CustomerMessagingService customerMessagingService = mock(CustomerMessagingService.class);
+    private final PageCounter pageCounter = new PageCounter(Duration.ofMinutes(1), 100);
 
     private CustomerService service;
 
     @BeforeEach
     public void setUp() {
-        service = new CustomerService(customerMapper, repository, customerMessagingService);
+        service = new CustomerService(customerMapper, repository, customerMessagingService, pageCounter);
     }
 
     @Nested
@@ -81,6 +87,40 @@ class CustomerServiceTest {
         }
     }
 
+    @Nested
+    class SuggestCustomers {
+        @Test
+        void shouldNotQuery_WhenPrefixIsTooShort() {
+            // When
+            var actual = service.suggestCustomers("jo", 10);
+
+            // Then
+            assertAll(
+                    () -> assertThat(actual)
+                            .isEmpty(),
+                    () -> verifyNoInteractions(repository)
+            );
+        }
+
+        @Test
+        void shouldEscapeLikeWildcards() {
+            // Given
+            when(repository.suggestByNamePrefix(any(), any(), anyInt()))
+                    .thenReturn(List.of(Customer.builder().build()));
+
+            // When
+            var actual = service.suggestCustomers("o_b%", 10);
+
+            // Then
+            assertAll(
+                    () -> verify(repository, times(1))
+                            .suggestByNamePrefix("o_b%", "o\\_b\\%%", 10),
+                    () -> assertThat(actual)
+                            .hasSize(1)
+            );
+        }
+    }
+
     @Nested
     class GetCustomer {
         @Test
@@ -114,22 +154,22 @@ class CustomerServiceTest {
         @Test
         void shouldThrowCustomerNotFoundException_IfCustomerIsNotAvailable() {
             // Given
-            when(repository.existsById(any()))
-                    .thenReturn(false);
+            when(repository.deleteByIdReturningCount(any()))
+                    .thenReturn(0);
 
             // When
             assertAll(
-                    () -> verify(repository, never()).save(any()),
                     () -> assertThatThrownBy(() -> service.deleteCustomer(UUID.randomUUID()))
-                            .isInstanceOf(CustomerNotFoundException.class)
+                            .isInstanceOf(CustomerNotFoundException.class),
+                    () -> verify(customerMessagingService, never()).sendCustomerDeletedEvent(any())
             );
         }
 
         @Test
         void shouldDelete_IfCustomerIsAvailable() {
             // Given
-            when(repository.existsById(any()))
-                    .thenReturn(true);
+            when(repository.deleteByIdReturningCount(any()))
+                    .thenReturn(1);
 
             // When
             UUID customerId = UUID.randomUUID();
@@ -138,7 +178,8 @@ class CustomerServiceTest {
             // Then
             var argumentCaptor = ArgumentCaptor.forClass(UUID.class);
             verify(repository, times(1))
-                    .deleteById(argumentCaptor.capture());
+                    .deleteByIdReturningCount(argumentCaptor.capture());
+            verify(repository, never()).existsById(any());
 
             var id = argumentCaptor.getValue();
             assertThat(id)
@@ -158,33 +199,32 @@ class CustomerServiceTest {
         @Test
         void shouldThrowCustomerNotFoundException_IfCustomerIsNotAvailable() {
             // Given
-            when(repository.existsById(any()))
-                    .thenReturn(false);
+            when(repository.updateById(any(), any(), any(), any(), any()))
+                    .thenReturn(0);
 
             // When
             assertAll(
-                    () -> verify(repository, never()).save(any()),
                     () -> assertThatThrownBy(() -> {
                         CustomerRequest customer = CustomerRequest.builder()
                                 .firstName("First")
                                 .lastName("Last")
                                 .build();
                         service.updateCustomer(UUID.randomUUID(), customer);
-                    }).isInstanceOf(CustomerNotFoundException.class)
+                    }).isInstanceOf(CustomerNotFoundException.class),
+                    () -> verify(repository, never()).save(any())
             );
         }
 
         @Test
         void shouldReturnCustomer_WhenCustomersIsAvailable() {
             // Given
-            when(repository.existsById(any()))
-                    .thenReturn(true);
-            when(repository.save(any()))
-                    .thenReturn(Customer.builder().id(UUID.randomUUID()).build());
+            when(repository.updateById(any(), any(), any(), any(), any()))
+                    .thenReturn(1);
 
             // When
+            UUID customerId = UUID.randomUUID();
             var actual = service.updateCustomer(
-                    UUID.randomUUID(),
+                    customerId,
                     CustomerRequest.builder()
                             .firstName("First")
                             .lastName("Last")
@@ -193,20 +233,15 @@ class CustomerServiceTest {
 
             // Then
             assertAll(
-                    () -> {
-                        var argumentCaptor = ArgumentCaptor.forClass(Customer.class);
-                        verify(repository, times(1)).save(argumentCaptor.capture());
-
-                        var entity = argumentCaptor.getValue();
-                        assertThat(entity.getId())
-                                .isNotNull();
-                        assertThat(entity.getFirstName())
-                                .isEqualTo("First");
-                        assertThat(entity.getLastName())
-                                .isEqualTo("Last");
-                    },
+                    () -> verify(repository, times(1))
+                            .updateById(eq(customerId), eq("First"), eq("Last"), isNull(), any()),
+                    () -> verify(repository, never()).save(any()),
                     () -> assertThat(actual.id())
-                            .isNotNull()
+                            .isEqualTo(customerId),
+                    () -> assertThat(actual.firstName())
+                            .isEqualTo("First"),
+                    () -> assertThat(actual.lastName())
+                            .isEqualTo("Last")
             );
         }
     }
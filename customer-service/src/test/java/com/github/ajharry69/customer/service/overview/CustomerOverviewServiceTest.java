@@ -0,0 +1,237 @@
+package com.github.ajharry69.customer.service.overview;
+
+import com.github.ajharry69.customer.exceptions.CustomerNotFoundException;
+import com.github.ajharry69.customer.service.account.AccountClient;
+import com.github.ajharry69.customer.service.account.data.AccountFilter;
+import com.github.ajharry69.customer.service.account.models.dtos.AccountResponse;
+import com.github.ajharry69.customer.service.card.CardClient;
+import com.github.ajharry69.customer.service.card.data.CardFilter;
+import com.github.ajharry69.customer.service.card.models.dtos.CardResponse;
+import com.github.ajharry69.customer.service.customer.CustomerService;
+import com.github.ajharry69.customer.service.customer.models.dtos.CustomerResponse;
+import com.github.ajharry69.customer.service.overview.models.dtos.OverviewError;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CustomerOverviewServiceTest {
+    private final CustomerService customerService = mock(CustomerService.class);
+    private final AccountClient accountClient = mock(AccountClient.class);
+    private final CardClient cardClient = mock(CardClient.class);
+    private final UUID customerId = UUID.randomUUID();
+    private final AccountResponse firstAccount = AccountResponse.builder().id(UUID.randomUUID()).build();
+    private final AccountResponse secondAccount = AccountResponse.builder().id(UUID.randomUUID()).build();
+    private final CardResponse card = CardResponse.builder().id(UUID.randomUUID()).build();
+
+    private CustomerOverviewService service;
+
+    private static <T> PagedModel<EntityModel<T>> page(List<T> content) {
+        return page(content, content.size());
+    }
+
+    private static <T> PagedModel<EntityModel<T>> page(List<T> content, long totalElements) {
+        return PagedModel.of(
+                content.stream().map(EntityModel::of).toList(),
+                new PagedModel.PageMetadata(content.size(), 0, totalElements)
+        );
+    }
+
+    private static <T> T sleepThenReturn(T value) throws InterruptedException {
+        Thread.sleep(Duration.ofSeconds(5));
+        return value;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        service = new CustomerOverviewService(
+                customerService,
+                accountClient,
+                cardClient,
+                Duration.ofMillis(500),
+                Duration.ofMillis(500),
+                50,
+                50
+        );
+        when(customerService.getCustomer(customerId))
+                .thenReturn(CustomerResponse.builder().id(customerId).build());
+    }
+
+    @Nested
+    class GetOverview {
+        @Test
+        void shouldThrowCustomerNotFoundException_WhenCustomerDoesNotExist() {
+            // Given
+            var customerId = UUID.randomUUID();
+            when(customerService.getCustomer(customerId))
+                    .thenThrow(new CustomerNotFoundException());
+
+            // When / Then
+            assertThrows(CustomerNotFoundException.class, () -> service.getOverview(customerId));
+        }
+
+        @Test
+        void shouldReturnCompleteOverview_WhenAllBranchesSucceed() {
+            // Given
+            when(accountClient.getAccounts(any(AccountFilter.class), any(Pageable.class)))
+                    .thenReturn(page(List.of(firstAccount, secondAccount)));
+            when(cardClient.getCards(any(CardFilter.class), any(Pageable.class)))
+                    .thenReturn(page(List.of(card)));
+
+            // When
+            var actual = service.getOverview(customerId);
+
+            // Then
+            assertAll(
+                    () -> assertThat(actual.complete())
+                            .isTrue(),
+                    () -> assertThat(actual.errors())
+                            .isEmpty(),
+                    () -> assertThat(actual.customer().id())
+                            .isEqualTo(customerId),
+                    () -> assertThat(actual.accounts())
+                            .extracting(a -> a.account().id())
+                            .containsExactly(firstAccount.id(), secondAccount.id()),
+                    () -> assertThat(actual.accounts())
+                            .allSatisfy(a -> assertThat(a.cards()).containsExactly(card))
+            );
+        }
+
+        @Test
+        void shouldReturnPartialOverview_WhenCardsOfAnAccountFail() {
+            // Given
+            when(accountClient.getAccounts(any(AccountFilter.class), any(Pageable.class)))
+                    .thenReturn(page(List.of(firstAccount, secondAccount)));
+            when(cardClient.getCards(argThat(f -> f != null && firstAccount.id().equals(f.getAccountId())), any(Pageable.class)))
+                    .thenReturn(page(List.of(card)));
+            when(cardClient.getCards(argThat(f -> f != null && secondAccount.id().equals(f.getAccountId())), any(Pageable.class)))
+                    .thenThrow(new IllegalStateException("card-service unavailable"));
+
+            // When
+            var actual = service.getOverview(customerId);
+
+            // Then
+            assertAll(
+                    () -> assertThat(actual.complete())
+                            .isFalse(),
+                    () -> assertThat(actual.errors())
+                            .containsExactly(
+                                    OverviewError.builder()
+                                            .branch(OverviewError.Branch.CARDS)
+                                            .accountId(secondAccount.id())
+                                            .reason(OverviewError.Reason.FAILED)
+                                            .build()
+                            ),
+                    () -> assertThat(actual.accounts().get(0).cards())
+                            .containsExactly(card),
+                    () -> assertThat(actual.accounts().get(1).cards())
+                            .isNull()
+            );
+        }
+
+        @Test
+        void shouldReturnIncompleteOverview_WhenCustomerHasMoreAccountsThanFetched() {
+            // Given
+            when(accountClient.getAccounts(any(AccountFilter.class), any(Pageable.class)))
+                    .thenReturn(page(List.of(firstAccount, secondAccount), 51));
+            when(cardClient.getCards(any(CardFilter.class), any(Pageable.class)))
+                    .thenReturn(page(List.of(card)));
+
+            // When
+            var actual = service.getOverview(customerId);
+
+            // Then
+            assertAll(
+                    () -> assertThat(actual.complete())
+                            .isFalse(),
+                    () -> assertThat(actual.accounts())
+                            .extracting(a -> a.account().id())
+                            .containsExactly(firstAccount.id(), secondAccount.id()),
+                    () -> assertThat(actual.errors())
+                            .containsExactly(
+                                    OverviewError.builder()
+                                            .branch(OverviewError.Branch.ACCOUNTS)
+                                            .reason(OverviewError.Reason.TRUNCATED)
+                                            .build()
+                            )
+            );
+        }
+
+        @Test
+        void shouldReturnIncompleteOverview_WhenAccountHasMoreCardsThanFetched() {
+            // Given
+            when(accountClient.getAccounts(any(AccountFilter.class), any(Pageable.class)))
+                    .thenReturn(page(List.of(firstAccount, secondAccount)));
+            when(cardClient.getCards(argThat(f -> f != null && firstAccount.id().equals(f.getAccountId())), any(Pageable.class)))
+                    .thenReturn(page(List.of(card)));
+            when(cardClient.getCards(argThat(f -> f != null && secondAccount.id().equals(f.getAccountId())), any(Pageable.class)))
+                    .thenReturn(page(List.of(card), 51));
+
+            // When
+            var actual = service.getOverview(customerId);
+
+            // Then
+            assertAll(
+                    () -> assertThat(actual.complete())
+                            .isFalse(),
+                    () -> assertThat(actual.accounts())
+                            .allSatisfy(a -> assertThat(a.cards()).containsExactly(card)),
+                    () -> assertThat(actual.errors())
+                            .containsExactly(
+                                    OverviewError.builder()
+                                            .branch(OverviewError.Branch.CARDS)
+                                            .accountId(secondAccount.id())
+                                            .reason(OverviewError.Reason.TRUNCATED)
+                                            .build()
+                            )
+            );
+        }
+
+        @Test
+        void shouldReturnCustomerOnly_WhenAccountsTimeOut() {
+            // Given
+            when(accountClient.getAccounts(any(AccountFilter.class), any(Pageable.class)))
+                    .thenAnswer(_ -> sleepThenReturn(page(List.of(firstAccount))));
+
+            // When
+            var startedAt = System.nanoTime();
+            var actual = service.getOverview(customerId);
+            var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+            // Then
+            assertAll(
+                    () -> assertThat(elapsed)
+                            .isLessThan(Duration.ofSeconds(2)),
+                    () -> assertThat(actual.complete())
+                            .isFalse(),
+                    () -> assertThat(actual.customer().id())
+                            .isEqualTo(customerId),
+                    () -> assertThat(actual.accounts())
+                            .isNull(),
+                    () -> assertThat(actual.errors())
+                            .extracting(OverviewError::branch, OverviewError::reason)
+                            .containsExactly(
+                                    tuple(
+                                            OverviewError.Branch.ACCOUNTS,
+                                            OverviewError.Reason.TIMEOUT
+                                    )
+                            )
+            );
+        }
+    }
+}
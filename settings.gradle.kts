@@ -3,6 +3,7 @@ rootProject.name = "dt-bank"
 include(
     ":autoconfigure",
     ":account-service",
+    ":benchmarks",
     ":card-service",
     ":config-server",
     ":customer-service",